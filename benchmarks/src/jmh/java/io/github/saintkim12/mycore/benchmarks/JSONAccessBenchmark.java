@@ -0,0 +1,85 @@
+package io.github.saintkim12.mycore.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.saintkim12.mycore.json.model.JSONMap;
+
+/**
+ * JSONAccessBenchmark
+ * <p>
+ * 파싱된 row 한 개의 값 조회: castGet, castGetAsString, castGetAsNumber(숫자, 숫자 문자열), 기본형 getter
+ * <p>
+ * row: 파싱 결과(plain) 또는 freeze 결과(frozen)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JSONAccessBenchmark {
+  @Param({ "plain", "frozen" })
+  public String row;
+
+  private JSONMap map;
+  private JSONMap address;
+
+  @Setup
+  public void setUp() throws IOException {
+    JSONMap parsed = JSONMap.fromJsonString(Payloads.jsonObject(42));
+    map = "frozen".equals(row) ? parsed.freeze() : parsed;
+    address = map.castGet("address");
+  }
+
+  @Benchmark
+  public String castGet() {
+    return map.castGet("name");
+  }
+
+  @Benchmark
+  public String castGetWithDefault() {
+    return map.castGet("none", "default");
+  }
+
+  @Benchmark
+  public String castGetAsString() {
+    return map.castGetAsString("id");
+  }
+
+  @Benchmark
+  public Integer castGetAsNumber() {
+    return map.castGetAsNumber("id", Integer.class);
+  }
+
+  @Benchmark
+  public Double castGetAsNumberDouble() {
+    return map.castGetAsNumber("score", Double.class);
+  }
+
+  @Benchmark
+  public Integer castGetAsNumberFromString() {
+    return address.castGetAsNumber("zipcode", Integer.class);
+  }
+
+  @Benchmark
+  public Integer tryCastGetAsNumberInvalid() {
+    return map.tryCastGetAsNumber("name", Integer.class);
+  }
+
+  @Benchmark
+  public int getInt() {
+    return map.getInt("id", -1);
+  }
+
+  @Benchmark
+  public double getDouble() {
+    return map.getDouble("score", -1);
+  }
+}
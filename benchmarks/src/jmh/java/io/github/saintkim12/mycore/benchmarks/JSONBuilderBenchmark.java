@@ -0,0 +1,74 @@
+package io.github.saintkim12.mycore.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.saintkim12.mycore.json.model.JSONList;
+import io.github.saintkim12.mycore.json.model.JSONMap;
+
+/**
+ * JSONBuilderBenchmark
+ * <p>
+ * JSONMap.builder(), JSONList.builder()로 entries개의 값을 담아 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JSONBuilderBenchmark {
+  @Param({ "10", "100" })
+  public int entries;
+
+  private String[] keys;
+  private JSONMap source;
+  private List<JSONMap> rows;
+
+  @Setup
+  public void setUp() {
+    keys = new String[entries];
+    source = new JSONMap();
+    rows = new ArrayList<>(entries);
+    for (int i = 0; i < entries; i++) {
+      keys[i] = "key" + i;
+      source.put(keys[i], i);
+      rows.add(JSONMap.of("id", i, "name", "name-" + i));
+    }
+  }
+
+  @Benchmark
+  public JSONMap mapBuilderPut() {
+    JSONMap.JSONMapBuilder builder = JSONMap.builder();
+    for (int i = 0; i < keys.length; i++) {
+      builder.put(keys[i], i);
+    }
+    return builder.build();
+  }
+
+  @Benchmark
+  public JSONMap mapBuilderPutAll() {
+    return JSONMap.builder().putAll(source).put("extra", true).build();
+  }
+
+  @Benchmark
+  public JSONList listBuilderAdd() {
+    JSONList.JSONListBuilder builder = JSONList.builder();
+    for (JSONMap row : rows) {
+      builder.add(row);
+    }
+    return builder.build();
+  }
+
+  @Benchmark
+  public JSONList listBuilderFrom() {
+    return JSONList.builder().from(rows).removeFirst().build();
+  }
+}
@@ -0,0 +1,72 @@
+package io.github.saintkim12.mycore.benchmarks;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.saintkim12.mycore.json.model.JSONList;
+import io.github.saintkim12.mycore.json.model.JSONMap;
+
+/**
+ * JSONConvertBenchmark
+ * <p>
+ * Java Map/List(jackson 기본 파싱 결과)와 JSONMap/JSONList 사이의 변환(중첩 객체 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JSONConvertBenchmark {
+  @Param({ "small", "medium", "large" })
+  public String size;
+
+  private Map<String, Object> javaMap;
+  private List<Map<String, Object>> javaList;
+  private JSONMap jsonMap;
+  private JSONList jsonList;
+
+  @Setup
+  public void setUp() throws IOException {
+    int rows = Payloads.rowsOf(size);
+    ObjectMapper mapper = new ObjectMapper();
+    javaMap = mapper.readValue(Payloads.jsonResponse(rows), new TypeReference<LinkedHashMap<String, Object>>() {
+    });
+    javaList = mapper.readValue(Payloads.jsonArray(rows), new TypeReference<List<Map<String, Object>>>() {
+    });
+    jsonMap = JSONMap.fromJsonString(Payloads.jsonResponse(rows));
+    jsonList = JSONList.fromJsonString(Payloads.jsonArray(rows));
+  }
+
+  @Benchmark
+  public JSONMap mapFrom() {
+    return JSONMap.from(javaMap);
+  }
+
+  @Benchmark
+  public JSONList listFrom() {
+    return JSONList.from(javaList);
+  }
+
+  @Benchmark
+  public Map<String, Object> castToJavaMap() {
+    return jsonMap.castToJavaMap();
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> castToJavaList() {
+    return jsonList.castToJavaList();
+  }
+}
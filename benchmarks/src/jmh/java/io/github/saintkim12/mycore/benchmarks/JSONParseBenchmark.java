@@ -0,0 +1,49 @@
+package io.github.saintkim12.mycore.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.saintkim12.mycore.json.model.JSONList;
+import io.github.saintkim12.mycore.json.model.JSONMap;
+
+/**
+ * JSONParseBenchmark
+ * <p>
+ * json 문자열 파싱: JSONMap.fromJsonString, JSONList.fromJsonString의 payload 크기별 처리 시간과 할당량
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JSONParseBenchmark {
+  @Param({ "small", "medium", "large" })
+  public String size;
+
+  private String objectJson;
+  private String arrayJson;
+
+  @Setup
+  public void setUp() {
+    int rows = Payloads.rowsOf(size);
+    objectJson = Payloads.jsonResponse(rows);
+    arrayJson = Payloads.jsonArray(rows);
+  }
+
+  @Benchmark
+  public JSONMap mapFromJsonString() throws IOException {
+    return JSONMap.fromJsonString(objectJson);
+  }
+
+  @Benchmark
+  public JSONList listFromJsonString() throws IOException {
+    return JSONList.fromJsonString(arrayJson);
+  }
+}
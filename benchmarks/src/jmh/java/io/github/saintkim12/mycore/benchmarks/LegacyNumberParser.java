@@ -0,0 +1,42 @@
+package io.github.saintkim12.mycore.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Optional;
+
+/**
+ * LegacyNumberParser
+ * <p>
+ * 비교용: 변경 전 NumberHelper.parse 구현(문자열 -> BigDecimal, canonical name 비교)
+ */
+final class LegacyNumberParser {
+  private LegacyNumberParser() {
+  }
+
+  static <N extends Number> N parse(Object object, N defaultValue, Class<N> _class) {
+    BigDecimal _number = Optional.ofNullable(object).map(Object::toString).map(BigDecimal::new).orElse(null);
+    if (_number == null) {
+      return defaultValue;
+    } else if ("java.lang.Integer".equals(_class.getCanonicalName())) {
+      return _class.cast(Integer.valueOf(_number.intValue()));
+    } else if ("java.lang.Long".equals(_class.getCanonicalName())) {
+      return _class.cast(Long.valueOf(_number.longValue()));
+    } else if ("java.lang.Double".equals(_class.getCanonicalName())) {
+      return _class.cast(Double.valueOf(_number.doubleValue()));
+    } else if ("java.lang.Float".equals(_class.getCanonicalName())) {
+      return _class.cast(Float.valueOf(_number.floatValue()));
+    } else if ("java.lang.Byte".equals(_class.getCanonicalName())) {
+      return _class.cast(Byte.valueOf(_number.byteValue()));
+    } else if ("java.lang.Short".equals(_class.getCanonicalName())) {
+      return _class.cast(Short.valueOf(_number.shortValue()));
+    } else if ("java.lang.Number".equals(_class.getCanonicalName())) {
+      return _class.cast(Double.valueOf(_number.doubleValue()));
+    } else if ("java.math.BigDecimal".equals(_class.getCanonicalName())) {
+      return _class.cast(BigDecimal.valueOf(_number.doubleValue()));
+    } else if ("java.math.BigInteger".equals(_class.getCanonicalName())) {
+      return _class.cast(BigInteger.valueOf(_number.longValue()));
+    } else {
+      return _class.cast(_number);
+    }
+  }
+}
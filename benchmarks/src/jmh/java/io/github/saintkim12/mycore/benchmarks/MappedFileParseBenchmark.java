@@ -0,0 +1,58 @@
+package io.github.saintkim12.mycore.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.github.saintkim12.mycore.json.model.JSONList;
+
+/**
+ * MappedFileParseBenchmark
+ * <p>
+ * json 파일 파싱: readAllBytes -> String -> fromJsonString 경로와 fromPath(memory-mapping) 경로 비교
+ * <p>
+ * heap 사용량은 gc profiler의 gc.alloc.rate.norm(bytes/op)으로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappedFileParseBenchmark {
+  @Param({ "1000", "100000" })
+  public int rows;
+
+  private Path path;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    path = Files.createTempFile("mapped-file-parse", ".json");
+    Files.write(path, Payloads.jsonArray(rows).getBytes(StandardCharsets.UTF_8));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(path);
+  }
+
+  @Benchmark
+  public JSONList readAllBytesToString() throws IOException {
+    return JSONList.fromJsonString(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public JSONList fromPath() throws IOException {
+    return JSONList.fromPath(path);
+  }
+}
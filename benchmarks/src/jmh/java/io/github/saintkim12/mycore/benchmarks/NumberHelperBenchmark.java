@@ -0,0 +1,182 @@
+package io.github.saintkim12.mycore.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.saintkim12.mycore.number.helper.NumberHelper;
+
+/**
+ * NumberHelperBenchmark
+ * <p>
+ * NumberHelper의 tryParse*, round 메소드(overload별) 처리 시간과 할당량
+ * <p>
+ * source: 변환할 값의 형태(Integer, Double, 숫자 문자열, 숫자가 아닌 문자열)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NumberHelperBenchmark {
+  @Param({ "Integer", "Double", "String", "Invalid" })
+  public String source;
+
+  private static final int ROUND_BATCH = 1000;
+
+  private final NumberHelper helper = NumberHelper.getInstance();
+  private Object value;
+  // 상수 folding 방지
+  private double number = 1234.5678d;
+  private double[] roundIn;
+  private double[] roundOut;
+
+  @Setup
+  public void setUp() {
+    switch (source) {
+    case "Integer":
+      value = 123456;
+      break;
+    case "Double":
+      value = 1234.5678d;
+      break;
+    case "String":
+      value = "1234.5678";
+      break;
+    default:
+      value = "N/A";
+    }
+    Random random = new Random(0);
+    roundIn = new double[ROUND_BATCH];
+    roundOut = new double[ROUND_BATCH];
+    for (int i = 0; i < ROUND_BATCH; i++) {
+      roundIn[i] = random.nextDouble() * 10000;
+    }
+  }
+
+  /* tryParse* */
+  @Benchmark
+  public Integer tryParseInteger() {
+    return helper.tryParseInteger(value);
+  }
+
+  @Benchmark
+  public Integer tryParseIntegerWithDefault() {
+    return helper.tryParseInteger(value, 0);
+  }
+
+  @Benchmark
+  public Long tryParseLong() {
+    return helper.tryParseLong(value);
+  }
+
+  @Benchmark
+  public Long tryParseLongWithDefault() {
+    return helper.tryParseLong(value, 0L);
+  }
+
+  @Benchmark
+  public Double tryParseDouble() {
+    return helper.tryParseDouble(value);
+  }
+
+  @Benchmark
+  public Double tryParseDoubleWithDefault() {
+    return helper.tryParseDouble(value, 0d);
+  }
+
+  @Benchmark
+  public Float tryParseFloat() {
+    return helper.tryParseFloat(value);
+  }
+
+  @Benchmark
+  public Float tryParseFloatWithDefault() {
+    return helper.tryParseFloat(value, 0f);
+  }
+
+  @Benchmark
+  public Byte tryParseByte() {
+    return helper.tryParseByte(value);
+  }
+
+  @Benchmark
+  public Byte tryParseByteWithDefault() {
+    return helper.tryParseByte(value, (byte) 0);
+  }
+
+  @Benchmark
+  public Short tryParseShort() {
+    return helper.tryParseShort(value);
+  }
+
+  @Benchmark
+  public Short tryParseShortWithDefault() {
+    return helper.tryParseShort(value, (short) 0);
+  }
+
+  @Benchmark
+  public Number tryParseNumber() {
+    return helper.tryParseNumber(value);
+  }
+
+  @Benchmark
+  public Number tryParseNumberWithDefault() {
+    return helper.tryParseNumber(value, 0);
+  }
+
+  @Benchmark
+  public BigDecimal tryParseBigDecimal() {
+    return helper.tryParseBigDecimal(value);
+  }
+
+  @Benchmark
+  public BigDecimal tryParseBigDecimalWithDefault() {
+    return helper.tryParseBigDecimal(value, BigDecimal.ZERO);
+  }
+
+  @Benchmark
+  public BigInteger tryParseBigInteger() {
+    return helper.tryParseBigInteger(value);
+  }
+
+  @Benchmark
+  public BigInteger tryParseBigIntegerWithDefault() {
+    return helper.tryParseBigInteger(value, BigInteger.ZERO);
+  }
+
+  @Benchmark
+  public Double tryParse() {
+    return helper.tryParse(value, null, Double.class);
+  }
+
+  /* round */
+  @Benchmark
+  public Number round() {
+    return helper.round(number);
+  }
+
+  @Benchmark
+  public Number roundWithPrecision() {
+    return helper.round(number, 2);
+  }
+
+  @Benchmark
+  public double roundDouble() {
+    return helper.roundDouble(number, 2);
+  }
+
+  @Benchmark
+  public double[] roundBatch() {
+    helper.round(roundIn, roundOut, 2);
+    return roundOut;
+  }
+}
@@ -0,0 +1,84 @@
+package io.github.saintkim12.mycore.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.saintkim12.mycore.number.helper.NumberHelper;
+
+/**
+ * NumberHelperParseBenchmark
+ * <p>
+ * NumberHelper.parse: 변경 전 구현(LegacyNumberParser)과 입력/변환 타입별 비교
+ * <p>
+ * *Invalid: 변환 실패 시 try/catch(변경 전)와 tryParse(예외 없음) 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NumberHelperParseBenchmark {
+  @Param({ "Integer", "Long", "Double", "String", "BigDecimal" })
+  public String source;
+
+  @Param({ "Integer", "Long", "Double", "BigDecimal" })
+  public String target;
+
+  // 숫자가 아닌 값(변환 실패 경로)
+  private static final String INVALID = "N/A";
+
+  private Object value;
+  private Class<? extends Number> targetClass;
+
+  @Setup
+  public void setUp() throws ClassNotFoundException {
+    switch (source) {
+    case "Integer":
+      value = 123456;
+      break;
+    case "Long":
+      value = 12345678901L;
+      break;
+    case "Double":
+      value = 1234.5678d;
+      break;
+    case "String":
+      value = "1234.5678";
+      break;
+    default:
+      value = new BigDecimal("1234.5678");
+    }
+    targetClass = "BigDecimal".equals(target) ? BigDecimal.class : Class.forName("java.lang." + target).asSubclass(Number.class);
+  }
+
+  @Benchmark
+  public Number legacy() {
+    return LegacyNumberParser.parse(value, null, targetClass);
+  }
+
+  @Benchmark
+  public Number current() {
+    return NumberHelper.getInstance().parse(value, null, targetClass);
+  }
+
+  @Benchmark
+  public Number legacyTryParseInvalid() {
+    try {
+      return LegacyNumberParser.parse(INVALID, null, targetClass);
+    } catch (NumberFormatException | ClassCastException e) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public Number tryParseInvalid() {
+    return NumberHelper.getInstance().tryParse(INVALID, null, targetClass);
+  }
+}
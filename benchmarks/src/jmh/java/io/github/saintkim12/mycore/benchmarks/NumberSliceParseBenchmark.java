@@ -0,0 +1,79 @@
+package io.github.saintkim12.mycore.benchmarks;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.github.saintkim12.mycore.number.helper.NumberHelper;
+
+/**
+ * NumberSliceParseBenchmark
+ * <p>
+ * ','로 구분된 숫자 byte 배열(CSV 한 줄)에서 double 읽기: field마다 String 생성 후 parse와 byte 범위 직접 parse 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NumberSliceParseBenchmark {
+  private static final int FIELDS = 1000;
+
+  private byte[] line;
+  private int[] starts;
+  private int[] lengths;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(0);
+    StringBuilder sb = new StringBuilder();
+    starts = new int[FIELDS];
+    lengths = new int[FIELDS];
+    for (int i = 0; i < FIELDS; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      String field = Double.toString(random.nextDouble() * 10000);
+      starts[i] = sb.length();
+      lengths[i] = field.length();
+      sb.append(field);
+    }
+    line = sb.toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public double stringThenParse() {
+    NumberHelper helper = NumberHelper.getInstance();
+    double sum = 0;
+    for (int i = 0; i < FIELDS; i++) {
+      sum += helper.parse(new String(line, starts[i], lengths[i], StandardCharsets.UTF_8), null, Double.class);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double stringThenBigDecimal() {
+    double sum = 0;
+    for (int i = 0; i < FIELDS; i++) {
+      sum += new BigDecimal(new String(line, starts[i], lengths[i], StandardCharsets.UTF_8)).doubleValue();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public double parseBytes() {
+    NumberHelper helper = NumberHelper.getInstance();
+    double sum = 0;
+    for (int i = 0; i < FIELDS; i++) {
+      sum += helper.parseDouble(line, starts[i], lengths[i], Double.NaN);
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,59 @@
+package io.github.saintkim12.mycore.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.github.saintkim12.mycore.json.io.ParallelNDJSONReader;
+import io.github.saintkim12.mycore.json.model.JSONList;
+
+/**
+ * ParallelNDJSONBenchmark
+ * <p>
+ * ParallelNDJSONReader의 worker 수에 따른 처리 시간(확장성) 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelNDJSONBenchmark {
+  @Param({ "1", "2", "4", "8", "16", "32" })
+  public int parallelism;
+
+  @Param({ "1048576" })
+  public int chunkSize;
+
+  private byte[] bytes;
+  private ForkJoinPool pool;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 200000; i++) {
+      sb.append(Payloads.jsonObject(i)).append('\n');
+    }
+    bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+    pool = new ForkJoinPool(parallelism);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public JSONList readAll() throws IOException {
+    return ParallelNDJSONReader.of(bytes).pool(pool).chunkSize(chunkSize).readAll();
+  }
+}
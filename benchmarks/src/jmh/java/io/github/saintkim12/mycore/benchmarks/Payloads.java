@@ -0,0 +1,67 @@
+package io.github.saintkim12.mycore.benchmarks;
+
+/**
+ * Payloads
+ * <p>
+ * benchmark에서 사용할 json 데이터 생성
+ */
+final class Payloads {
+  private Payloads() {
+  }
+
+  /**
+   * API 응답과 비슷한 모양의 object 한 개
+   * @param id id
+   * @return json object string
+   */
+  static String jsonObject(int id) {
+    return "{\"id\":" + id + ",\"name\":\"name-" + id + "\",\"username\":\"user" + id
+        + "\",\"email\":\"user" + id + "@example.com\",\"score\":" + (id * 0.37) + ",\"active\":" + (id % 2 == 0)
+        + ",\"address\":{\"street\":\"street " + id + "\",\"city\":\"city\",\"zipcode\":\"" + (10000 + id)
+        + "\",\"geo\":{\"lat\":\"" + (id % 90) + ".1234\",\"lng\":\"-" + (id % 180) + ".5678\"}}"
+        + ",\"tags\":[\"a\",\"b\",\"c\"],\"orders\":[{\"no\":" + id + ",\"amount\":" + (id % 1000) + "}]}";
+  }
+
+  /**
+   * object rows개로 이루어진 json array
+   * @param rows object 개수
+   * @return json array string
+   */
+  static String jsonArray(int rows) {
+    StringBuilder sb = new StringBuilder(rows * 320).append('[');
+    for (int i = 0; i < rows; i++) {
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append(jsonObject(i));
+    }
+    return sb.append(']').toString();
+  }
+
+  /**
+   * payload 크기(small, medium, large)별 row 개수
+   * @param size small, medium, large
+   * @return row 개수
+   */
+  static int rowsOf(String size) {
+    switch (size) {
+    case "small":
+      return 1;
+    case "medium":
+      return 100;
+    case "large":
+      return 10_000;
+    default:
+      throw new IllegalArgumentException("unknown size: " + size);
+    }
+  }
+
+  /**
+   * rows개의 object를 data 배열로 감싼 API 응답 형태의 json object
+   * @param rows object 개수
+   * @return json object string
+   */
+  static String jsonResponse(int rows) {
+    return "{\"total\":" + rows + ",\"page\":1,\"data\":" + jsonArray(rows) + "}";
+  }
+}
@@ -0,0 +1,226 @@
+package io.github.saintkim12.mycore.json.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import io.github.saintkim12.mycore.json.model.JSONList;
+import io.github.saintkim12.mycore.json.model.JSONMap;
+import io.github.saintkim12.mycore.json.model.ObjectMapperInstance;
+
+/**
+ * JSONArrayReader
+ * <p>
+ * 최상위가 json array인 입력을 원소 하나씩 읽어 JSONMap으로 리턴하는 Iterator
+ * <p>
+ * parser를 원소 하나만큼씩 진행하므로(lazy), 전체 array를 메모리에 올리지 않고 일정한 메모리로 처리할 수 있다.
+ * JSONList.from과 같이, object가 아닌 원소는 건너뛴다.
+ * <p>
+ * 사용 후 {@link #close()}로 입력을 닫아야 한다.
+ *
+ * <pre>
+ * try (JSONArrayReader reader = JSONArrayReader.of(path)) {
+ *   for (JSONList chunk = reader.readChunk(1000); !chunk.isEmpty(); chunk = reader.readChunk(1000)) {
+ *     ...
+ *   }
+ * }
+ * </pre>
+ *
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class JSONArrayReader implements Iterator<JSONMap>, Closeable {
+  /* member */
+  private final JsonParser parser;
+  private final ObjectReader objectReader;
+  private boolean started;
+  private boolean done;
+  private JSONMap next;
+
+  /* constructor */
+  public JSONArrayReader(JsonParser parser) {
+    this.parser = parser;
+    this.objectReader = ObjectMapperInstance.getMapReader();
+  }
+
+  /* static method */
+  /**
+   * InputStream(json, 인코딩 자동 감지)으로부터 생성
+   * @param in InputStream
+   * @return JSONArrayReader
+   * @throws IOException
+   */
+  public static JSONArrayReader of(InputStream in) throws IOException {
+    return new JSONArrayReader(ObjectMapperInstance.getMapReader().createParser(in));
+  }
+
+  /**
+   * Reader로부터 생성
+   * @param reader Reader
+   * @return JSONArrayReader
+   * @throws IOException
+   */
+  public static JSONArrayReader of(Reader reader) throws IOException {
+    return new JSONArrayReader(ObjectMapperInstance.getMapReader().createParser(reader));
+  }
+
+  /**
+   * 파일로부터 생성
+   * @param path 파일 경로
+   * @return JSONArrayReader
+   * @throws IOException
+   */
+  public static JSONArrayReader of(Path path) throws IOException {
+    return of(Files.newInputStream(path));
+  }
+
+  /* original method */
+  @Override
+  public boolean hasNext() {
+    if (next == null && !done) {
+      try {
+        next = readNext();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public JSONMap next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    JSONMap value = next;
+    next = null;
+    return value;
+  }
+
+  /**
+   * 남은 원소들을 Stream으로 리턴
+   * <p>
+   * Stream을 닫으면(close) 입력도 닫힌다.
+   * @return Stream of JSONMap
+   */
+  public Stream<JSONMap> stream() {
+    return StreamSupport.stream(spliterator(), false).onClose(this::closeUnchecked);
+  }
+
+  /**
+   * 남은 원소들에 대한 Spliterator 리턴
+   * @return Spliterator of JSONMap
+   */
+  public Spliterator<JSONMap> spliterator() {
+    return Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+  }
+
+  /**
+   * 최대 size개의 원소를 읽어 JSONList로 리턴
+   * @param size 최대 원소 수
+   * @return JSONList object(남은 원소가 없으면 빈 JSONList)
+   */
+  public JSONList readChunk(int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("size must be positive: " + size);
+    }
+    JSONList chunk = new JSONList(size);
+    while (chunk.size() < size && hasNext()) {
+      chunk.add(next());
+    }
+    return chunk;
+  }
+
+  /**
+   * 남은 원소들을 size개씩 JSONList로 묶어 Stream으로 리턴
+   * <p>
+   * Stream을 닫으면(close) 입력도 닫힌다.
+   * @param size chunk의 최대 원소 수
+   * @return Stream of JSONList
+   */
+  public Stream<JSONList> chunks(int size) {
+    Iterator<JSONList> iterator = new Iterator<JSONList>() {
+      @Override
+      public boolean hasNext() {
+        return JSONArrayReader.this.hasNext();
+      }
+
+      @Override
+      public JSONList next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return readChunk(size);
+      }
+    };
+    return StreamSupport
+        .stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(this::closeUnchecked);
+  }
+
+  /**
+   * 남은 원소들을 모두 읽어 JSONList로 리턴
+   * @return JSONList object
+   */
+  public JSONList toJSONList() {
+    JSONList list = new JSONList();
+    while (hasNext()) {
+      list.add(next());
+    }
+    return list;
+  }
+
+  @Override
+  public void close() throws IOException {
+    done = true;
+    next = null;
+    parser.close();
+  }
+
+  private void closeUnchecked() {
+    try {
+      close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 다음 object 원소를 읽어 리턴
+   * @return JSONMap 또는 null(array의 끝)
+   * @throws IOException
+   */
+  private JSONMap readNext() throws IOException {
+    if (!started) {
+      started = true;
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        done = true;
+        throw MismatchedInputException.from(parser, JSONList.class, "root value is not a json array");
+      }
+    }
+    for (JsonToken t = parser.nextToken(); t != null && t != JsonToken.END_ARRAY; t = parser.nextToken()) {
+      if (t == JsonToken.START_OBJECT) {
+        return objectReader.readValue(parser);
+      }
+      parser.skipChildren();
+    }
+    done = true;
+    return null;
+  }
+}
@@ -0,0 +1,260 @@
+package io.github.saintkim12.mycore.json.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.github.saintkim12.mycore.json.model.JSONMap;
+import io.github.saintkim12.mycore.json.model.ObjectMapperInstance;
+
+/**
+ * JSONListWriter
+ * <p>
+ * JSONMap을 하나씩 json array 또는 NDJSON(newline-delimited json)으로 출력하는 writer
+ * <p>
+ * 출력은 generator의 고정 크기 버퍼(약 8KB)를 거쳐 바로 OutputStream으로 나가므로,
+ * 전체 결과를 String이나 byte 배열로 만들지 않고 행 수와 관계없이 일정한 메모리로 출력할 수 있다.
+ * 지정한 행 수(flushInterval)마다 OutputStream을 flush한다.
+ * <p>
+ * 사용 후 {@link #close()}로 출력을 마무리하고 닫아야 한다.(array인 경우 닫는 괄호를 출력)
+ *
+ * <pre>
+ * try (JSONArrayReader reader = JSONArrayReader.of(in);
+ *     JSONListWriter writer = JSONListWriter.of(out, Format.NDJSON)) {
+ *   writer.writeAll(reader);
+ * }
+ * </pre>
+ *
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class JSONListWriter implements Flushable, Closeable {
+  private static final int DEFAULT_FLUSH_INTERVAL = 1000;
+
+  /**
+   * 출력 형식
+   */
+  public enum Format {
+    /** json array([{...},{...}]) */
+    ARRAY,
+    /** 한 줄에 json object 하나(NDJSON) */
+    NDJSON
+  }
+
+  /* member */
+  private final OutputStream out;
+  private final boolean closeOut;
+  private final JsonGenerator generator;
+  private final ObjectWriter objectWriter;
+  private final Format format;
+  private final int flushInterval;
+  private long count;
+  private boolean finished;
+
+  /* constructor */
+  /**
+   * OutputStream(UTF-8)으로 출력하는 writer 생성(close 시 out도 닫음)
+   * @param out OutputStream
+   * @param format 출력 형식
+   * @param flushInterval flush할 행 수(0 이하면 close, flush 호출 시에만 flush)
+   * @throws IOException
+   */
+  public JSONListWriter(OutputStream out, Format format, int flushInterval) throws IOException {
+    this(out, format, flushInterval, true);
+  }
+
+  private JSONListWriter(OutputStream out, Format format, int flushInterval, boolean closeOut) throws IOException {
+    this.out = out;
+    this.closeOut = closeOut;
+    // 행마다 flush하지 않도록 끔(flushInterval마다 flush)
+    this.objectWriter = ObjectMapperInstance.getWriter().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.generator = objectWriter.createGenerator(out, JsonEncoding.UTF8);
+    this.format = format == null ? Format.ARRAY : format;
+    this.flushInterval = flushInterval;
+    if (this.format == Format.ARRAY) {
+      generator.writeStartArray();
+    } else {
+      // 행 사이의 구분자는 줄바꿈으로 직접 출력
+      generator.setRootValueSeparator(null);
+    }
+  }
+
+  /* static method */
+  /**
+   * OutputStream(UTF-8)으로 출력하는 writer 생성
+   * @param out OutputStream
+   * @param format 출력 형식
+   * @return JSONListWriter
+   * @throws IOException
+   */
+  public static JSONListWriter of(OutputStream out, Format format) throws IOException {
+    return of(out, format, DEFAULT_FLUSH_INTERVAL);
+  }
+
+  /**
+   * OutputStream(UTF-8)으로 출력하는 writer 생성
+   * @param out OutputStream
+   * @param format 출력 형식
+   * @param flushInterval flush할 행 수
+   * @return JSONListWriter
+   * @throws IOException
+   */
+  public static JSONListWriter of(OutputStream out, Format format, int flushInterval) throws IOException {
+    return new JSONListWriter(out, format, flushInterval);
+  }
+
+  /**
+   * WritableByteChannel(UTF-8)으로 출력하는 writer 생성
+   * @param channel WritableByteChannel
+   * @param format 출력 형식
+   * @return JSONListWriter
+   * @throws IOException
+   */
+  public static JSONListWriter of(WritableByteChannel channel, Format format) throws IOException {
+    return of(Channels.newOutputStream(channel), format);
+  }
+
+  /**
+   * 파일(UTF-8)로 출력하는 writer 생성
+   * @param path 파일 경로
+   * @param format 출력 형식
+   * @return JSONListWriter
+   * @throws IOException
+   */
+  public static JSONListWriter of(Path path, Format format) throws IOException {
+    return of(Files.newOutputStream(path), format);
+  }
+
+  /**
+   * JSONMap들을 모두 OutputStream(UTF-8)으로 출력
+   * <p>
+   * 출력 후 out을 닫지 않는다.
+   * @param rows JSONList 또는 JSONMap의 Iterable
+   * @param out OutputStream
+   * @param format 출력 형식
+   * @return 출력한 행 수
+   * @throws IOException
+   */
+  public static long write(Iterable<? extends JSONMap> rows, OutputStream out, Format format) throws IOException {
+    return write(rows.iterator(), out, format);
+  }
+
+  /**
+   * JSONMap들을 모두 OutputStream(UTF-8)으로 출력
+   * <p>
+   * 출력 후 out을 닫지 않는다.
+   * @param rows JSONMap의 Iterator(ex> JSONArrayReader, NDJSONReader)
+   * @param out OutputStream
+   * @param format 출력 형식
+   * @return 출력한 행 수
+   * @throws IOException
+   */
+  public static long write(Iterator<? extends JSONMap> rows, OutputStream out, Format format) throws IOException {
+    try (JSONListWriter writer = new JSONListWriter(out, format, DEFAULT_FLUSH_INTERVAL, false)) {
+      return writer.writeAll(rows);
+    }
+  }
+
+  /* original method */
+  /**
+   * JSONMap 하나를 출력
+   * <p>
+   * null은 출력하지 않는다.
+   * @param row JSONMap object
+   * @throws IOException
+   * @throws IllegalStateException 이미 close한 경우
+   */
+  public void write(JSONMap row) throws IOException {
+    if (finished) {
+      throw new IllegalStateException("writer is already closed");
+    }
+    if (row == null) {
+      return;
+    }
+    objectWriter.writeValue(generator, row);
+    if (format == Format.NDJSON) {
+      generator.writeRaw('\n');
+    }
+    count++;
+    if (flushInterval > 0 && count % flushInterval == 0) {
+      generator.flush();
+    }
+  }
+
+  /**
+   * 남은 JSONMap들을 모두 출력
+   * @param rows JSONMap의 Iterator
+   * @return 출력한 행 수
+   * @throws IOException
+   */
+  public long writeAll(Iterator<? extends JSONMap> rows) throws IOException {
+    long before = count;
+    while (rows.hasNext()) {
+      write(rows.next());
+    }
+    return count - before;
+  }
+
+  /**
+   * JSONMap들을 모두 출력
+   * @param rows JSONList 또는 JSONMap의 Iterable
+   * @return 출력한 행 수
+   * @throws IOException
+   */
+  public long writeAll(Iterable<? extends JSONMap> rows) throws IOException {
+    return writeAll(rows.iterator());
+  }
+
+  /**
+   * @return 지금까지 출력한 행 수
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * 버퍼에 남은 내용을 출력하고 OutputStream을 flush
+   * @throws IOException
+   */
+  @Override
+  public void flush() throws IOException {
+    generator.flush();
+  }
+
+  /**
+   * 출력을 마무리(array인 경우 닫는 괄호 출력)하고 OutputStream을 닫는다.
+   * <p>
+   * {@link #write(Iterator, OutputStream, Format)}로 출력한 경우에는 OutputStream을 닫지 않는다.
+   * @throws IOException
+   */
+  @Override
+  public void close() throws IOException {
+    if (finished) {
+      return;
+    }
+    finished = true;
+    try {
+      if (format == Format.ARRAY) {
+        generator.writeEndArray();
+      }
+      // generator는 out을 닫지 않음(shared ObjectWriter 설정)
+      generator.close();
+    } finally {
+      if (closeOut) {
+        out.close();
+      }
+    }
+  }
+}
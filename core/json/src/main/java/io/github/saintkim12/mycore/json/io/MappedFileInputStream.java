@@ -0,0 +1,118 @@
+package io.github.saintkim12.mycore.json.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * MappedFileInputStream
+ * <p>
+ * 파일을 memory-mapping(FileChannel.map)하여 읽는 InputStream
+ * <p>
+ * 파일 내용을 heap에 복사해두지 않고, 읽는 쪽(jackson parser)의 버퍼로 바로 전달한다.
+ * MappedByteBuffer는 최대 2GB까지만 mapping할 수 있으므로, 큰 파일은 segment 단위로 나누어 순서대로 mapping한다.
+ *
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class MappedFileInputStream extends InputStream {
+  /** 기본 segment 크기(1GB) */
+  public static final long DEFAULT_SEGMENT_SIZE = 1L << 30;
+
+  /* member */
+  private final FileChannel channel;
+  private final long size;
+  private final long segmentSize;
+  private long segmentStart;
+  private MappedByteBuffer segment;
+
+  /* constructor */
+  public MappedFileInputStream(Path path) throws IOException {
+    this(path, DEFAULT_SEGMENT_SIZE);
+  }
+
+  /**
+   * @param path 파일 경로
+   * @param segmentSize 한 번에 mapping할 크기(1 ~ Integer.MAX_VALUE)
+   * @throws IOException
+   */
+  public MappedFileInputStream(Path path, long segmentSize) throws IOException {
+    if (segmentSize <= 0 || segmentSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("segmentSize must be in 1.." + Integer.MAX_VALUE + ": " + segmentSize);
+    }
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.size = channel.size();
+    this.segmentSize = segmentSize;
+  }
+
+  /* default method */
+  @Override
+  public int read() throws IOException {
+    if (!ensureAvailable()) {
+      return -1;
+    }
+    return segment.get() & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (off < 0 || len < 0 || len > b.length - off) {
+      throw new IndexOutOfBoundsException();
+    } else if (len == 0) {
+      return 0;
+    } else if (!ensureAvailable()) {
+      return -1;
+    }
+    int n = Math.min(len, segment.remaining());
+    segment.get(b, off, n);
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    long skipped = 0;
+    while (skipped < n && ensureAvailable()) {
+      int step = (int) Math.min(n - skipped, segment.remaining());
+      // Buffer로 호출(JDK 9+의 ByteBuffer 반환 메소드가 Java 8에 없음)
+      ((Buffer) segment).position(segment.position() + step);
+      skipped += step;
+    }
+    return skipped;
+  }
+
+  @Override
+  public int available() throws IOException {
+    long position = segment == null ? 0 : segmentStart + segment.position();
+    return (int) Math.min(size - position, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public void close() throws IOException {
+    segment = null;
+    channel.close();
+  }
+
+  /**
+   * 현재 segment를 다 읽었으면 다음 segment를 mapping
+   * @return 읽을 데이터가 남아있는지 여부
+   * @throws IOException
+   */
+  private boolean ensureAvailable() throws IOException {
+    if (segment != null && segment.hasRemaining()) {
+      return true;
+    }
+    long next = segment == null ? 0 : segmentStart + segment.capacity();
+    if (next >= size) {
+      return false;
+    }
+    segmentStart = next;
+    segment = channel.map(MapMode.READ_ONLY, next, Math.min(segmentSize, size - next));
+    return true;
+  }
+}
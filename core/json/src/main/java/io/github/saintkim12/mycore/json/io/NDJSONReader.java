@@ -0,0 +1,349 @@
+package io.github.saintkim12.mycore.json.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import io.github.saintkim12.mycore.json.model.JSONMap;
+import io.github.saintkim12.mycore.json.model.ObjectMapperInstance;
+
+/**
+ * NDJSONReader
+ * <p>
+ * NDJSON(newline-delimited json) 입력을 한 줄씩 읽어 JSONMap으로 리턴하는 Iterator
+ * <p>
+ * 한 줄을 읽을 때마다 파싱하므로(lazy), 입력 크기와 관계없이 가장 긴 한 줄만큼의 메모리만 사용한다.
+ * 줄은 재사용하는 char 버퍼에 읽으며, String으로 만들지 않고 바로 파싱한다.
+ * <p>
+ * 빈 줄은 건너뛴다. json object가 아닌 줄(잘못된 json, array 등)은 {@link MalformedLinePolicy}에 따라 처리한다.
+ * <p>
+ * 사용 후 {@link #close()}로 입력을 닫아야 한다.
+ *
+ * <pre>
+ * try (Stream&lt;JSONMap&gt; rows = NDJSONReader.of(path, MalformedLinePolicy.SKIP).stream()) {
+ *   rows.forEach(row -&gt; ...);
+ * }
+ * </pre>
+ *
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class NDJSONReader implements Iterator<JSONMap>, Closeable {
+  private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  /**
+   * json object로 읽을 수 없는 줄의 처리 방법
+   */
+  public enum MalformedLinePolicy {
+    /** 건너뛴다 */
+    SKIP,
+    /** 건너뛰고, {@link NDJSONReader#getMalformedLines()}로 확인할 수 있도록 모아둔다 */
+    COLLECT,
+    /** UncheckedIOException 발생 */
+    FAIL
+  }
+
+  /**
+   * json object로 읽을 수 없는 줄의 정보
+   */
+  public static final class MalformedLine {
+    private final long lineNumber;
+    private final String line;
+    private final JsonProcessingException error;
+
+    private MalformedLine(long lineNumber, String line, JsonProcessingException error) {
+      this.lineNumber = lineNumber;
+      this.line = line;
+      this.error = error;
+    }
+
+    /**
+     * @return 줄 번호(1부터 시작)
+     */
+    public long getLineNumber() {
+      return lineNumber;
+    }
+
+    /**
+     * @return 줄의 내용
+     */
+    public String getLine() {
+      return line;
+    }
+
+    /**
+     * @return 파싱 에러
+     */
+    public JsonProcessingException getError() {
+      return error;
+    }
+  }
+
+  /* member */
+  private final Reader reader;
+  private final ObjectReader objectReader;
+  private final MalformedLinePolicy policy;
+  private final List<MalformedLine> malformedLines = new ArrayList<>();
+
+  // 읽은 문자들은 buffer[start, end)에 위치
+  private char[] buffer = new char[DEFAULT_BUFFER_SIZE];
+  private int start;
+  private int end;
+  private int lineStart;
+  private int lineEnd;
+  private boolean eof;
+  private long lineNumber;
+  private JSONMap next;
+
+  /* constructor */
+  public NDJSONReader(Reader reader, MalformedLinePolicy policy) {
+    this.reader = reader;
+    this.objectReader = ObjectMapperInstance.getMapReader();
+    this.policy = policy == null ? MalformedLinePolicy.FAIL : policy;
+  }
+
+  /* static method */
+  /**
+   * InputStream(UTF-8)으로부터 생성(잘못된 줄은 에러 발생)
+   * @param in InputStream
+   * @return NDJSONReader
+   */
+  public static NDJSONReader of(InputStream in) {
+    return of(in, MalformedLinePolicy.FAIL);
+  }
+
+  /**
+   * InputStream(UTF-8)으로부터 생성
+   * @param in InputStream
+   * @param policy 잘못된 줄의 처리 방법
+   * @return NDJSONReader
+   */
+  public static NDJSONReader of(InputStream in, MalformedLinePolicy policy) {
+    return new NDJSONReader(new InputStreamReader(in, StandardCharsets.UTF_8), policy);
+  }
+
+  /**
+   * Reader로부터 생성(잘못된 줄은 에러 발생)
+   * @param reader Reader
+   * @return NDJSONReader
+   */
+  public static NDJSONReader of(Reader reader) {
+    return of(reader, MalformedLinePolicy.FAIL);
+  }
+
+  /**
+   * Reader로부터 생성
+   * @param reader Reader
+   * @param policy 잘못된 줄의 처리 방법
+   * @return NDJSONReader
+   */
+  public static NDJSONReader of(Reader reader, MalformedLinePolicy policy) {
+    return new NDJSONReader(reader, policy);
+  }
+
+  /**
+   * 파일(UTF-8)로부터 생성(잘못된 줄은 에러 발생)
+   * @param path 파일 경로
+   * @return NDJSONReader
+   * @throws IOException
+   */
+  public static NDJSONReader of(Path path) throws IOException {
+    return of(path, MalformedLinePolicy.FAIL);
+  }
+
+  /**
+   * 파일(UTF-8)로부터 생성
+   * @param path 파일 경로
+   * @param policy 잘못된 줄의 처리 방법
+   * @return NDJSONReader
+   * @throws IOException
+   */
+  public static NDJSONReader of(Path path, MalformedLinePolicy policy) throws IOException {
+    return of(Files.newInputStream(path), policy);
+  }
+
+  /* original method */
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      try {
+        next = readNext();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return next != null;
+  }
+
+  @Override
+  public JSONMap next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    JSONMap value = next;
+    next = null;
+    return value;
+  }
+
+  /**
+   * 남은 줄들을 Stream으로 리턴
+   * <p>
+   * Stream을 닫으면(close) 입력도 닫힌다.
+   * @return Stream of JSONMap
+   */
+  public Stream<JSONMap> stream() {
+    return StreamSupport
+        .stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(this::closeUnchecked);
+  }
+
+  /**
+   * {@link MalformedLinePolicy#COLLECT}인 경우, 지금까지 건너뛴 줄의 목록
+   * @return malformed lines
+   */
+  public List<MalformedLine> getMalformedLines() {
+    return Collections.unmodifiableList(malformedLines);
+  }
+
+  /**
+   * @return 지금까지 읽은 줄의 수
+   */
+  public long getLineNumber() {
+    return lineNumber;
+  }
+
+  @Override
+  public void close() throws IOException {
+    next = null;
+    eof = true;
+    start = end;
+    reader.close();
+  }
+
+  private void closeUnchecked() {
+    try {
+      close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 다음 json object를 읽어 리턴
+   * @return JSONMap 또는 null(입력의 끝)
+   * @throws IOException
+   */
+  private JSONMap readNext() throws IOException {
+    while (readLine()) {
+      lineNumber++;
+      if (isBlankLine()) {
+        continue;
+      }
+      try (JsonParser parser = objectReader.createParser(buffer, lineStart, lineEnd - lineStart)) {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+          throw MismatchedInputException.from(parser, JSONMap.class, "line is not a json object");
+        }
+        JSONMap value = objectReader.readValue(parser);
+        if (parser.nextToken() != null) {
+          throw MismatchedInputException.from(parser, JSONMap.class, "trailing token after json object");
+        }
+        return value;
+      } catch (JsonProcessingException e) {
+        handleMalformedLine(e);
+      }
+    }
+    return null;
+  }
+
+  private void handleMalformedLine(JsonProcessingException e) {
+    switch (policy) {
+    case SKIP:
+      break;
+    case COLLECT:
+      malformedLines.add(new MalformedLine(lineNumber, new String(buffer, lineStart, lineEnd - lineStart), e));
+      break;
+    default:
+      throw new UncheckedIOException("malformed json at line " + lineNumber, e);
+    }
+  }
+
+  private boolean isBlankLine() {
+    for (int i = lineStart; i < lineEnd; i++) {
+      if (!Character.isWhitespace(buffer[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 다음 줄을 buffer[lineStart, lineEnd)에 읽음(줄바꿈 문자 제외)
+   * <p>
+   * 줄이 buffer보다 길면 buffer를 늘린다.
+   * @return 읽은 줄이 있는지 여부
+   * @throws IOException
+   */
+  private boolean readLine() throws IOException {
+    int scan = start;
+    while (true) {
+      for (; scan < end; scan++) {
+        if (buffer[scan] == '\n') {
+          setLine(start, scan);
+          start = scan + 1;
+          return true;
+        }
+      }
+      if (eof) {
+        if (start < end) {
+          setLine(start, end);
+          start = end;
+          return true;
+        }
+        return false;
+      }
+      if (start > 0) {
+        System.arraycopy(buffer, start, buffer, 0, end - start);
+        scan -= start;
+        end -= start;
+        start = 0;
+      }
+      if (end == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+      }
+      int n = reader.read(buffer, end, buffer.length - end);
+      if (n < 0) {
+        eof = true;
+      } else {
+        end += n;
+      }
+    }
+  }
+
+  private void setLine(int from, int to) {
+    lineStart = from;
+    lineEnd = to > from && buffer[to - 1] == '\r' ? to - 1 : to;
+  }
+}
@@ -0,0 +1,431 @@
+package io.github.saintkim12.mycore.json.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+import io.github.saintkim12.mycore.json.model.JSONList;
+import io.github.saintkim12.mycore.json.model.JSONMap;
+import io.github.saintkim12.mycore.json.model.ObjectMapperInstance;
+
+/**
+ * ParallelNDJSONReader
+ * <p>
+ * NDJSON(newline-delimited json) 입력을 줄바꿈 기준의 chunk로 나누어 ForkJoinPool에서 병렬로 파싱한다.
+ * <p>
+ * 각 chunk는 worker마다 별도의 parser(공유 ObjectMapper의 ObjectReader로 생성)로 파싱하므로 서로 공유하는 상태가 없다.
+ * 파일은 chunk 단위로 memory-mapping하여 읽는다.
+ * <ul>
+ * <li>{@link #readAll()}: 원래 순서대로 JSONList로 모아 리턴</li>
+ * <li>{@link #forEachUnordered(Consumer)}: 순서와 관계없이 worker에서 바로 전달(집계용, action은 thread-safe해야 함)</li>
+ * </ul>
+ * 잘못된 json이 있으면 IOException이 발생한다.
+ * 이때 나머지 chunk의 파싱은 취소하며, 실행 중인 worker가 모두 멈춘 뒤(action이 더 이상 호출되지 않음) 리턴한다.
+ *
+ * <pre>
+ * JSONList rows = ParallelNDJSONReader.of(path).pool(new ForkJoinPool(32)).chunkSize(8 &lt;&lt; 20).readAll();
+ * </pre>
+ *
+ * @see NDJSONReader
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class ParallelNDJSONReader {
+  /** 기본 chunk 크기(4MB) */
+  public static final int DEFAULT_CHUNK_SIZE = 4 << 20;
+
+  /* member */
+  private final Path path;
+  private final ByteBuffer buffer;
+  private ForkJoinPool pool = ForkJoinPool.commonPool();
+  private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+  /* constructor */
+  private ParallelNDJSONReader(Path path, ByteBuffer buffer) {
+    this.path = path;
+    this.buffer = buffer;
+  }
+
+  /* static method */
+  /**
+   * 파일(UTF-8)로부터 생성
+   * @param path 파일 경로
+   * @return ParallelNDJSONReader
+   */
+  public static ParallelNDJSONReader of(Path path) {
+    return new ParallelNDJSONReader(path, null);
+  }
+
+  /**
+   * ByteBuffer(UTF-8)로부터 생성
+   * <p>
+   * buffer의 position ~ limit 구간을 읽으며, buffer의 position은 변경하지 않는다.
+   * @param buffer ByteBuffer
+   * @return ParallelNDJSONReader
+   */
+  public static ParallelNDJSONReader of(ByteBuffer buffer) {
+    return new ParallelNDJSONReader(null, buffer.duplicate());
+  }
+
+  /**
+   * byte 배열(UTF-8)로부터 생성
+   * @param bytes byte array
+   * @return ParallelNDJSONReader
+   */
+  public static ParallelNDJSONReader of(byte[] bytes) {
+    return of(ByteBuffer.wrap(bytes));
+  }
+
+  /* original method */
+  /**
+   * 파싱에 사용할 ForkJoinPool 지정(기본값: ForkJoinPool.commonPool())
+   * @param pool ForkJoinPool
+   * @return this
+   */
+  public ParallelNDJSONReader pool(ForkJoinPool pool) {
+    if (pool == null) {
+      throw new IllegalArgumentException("pool must not be null");
+    }
+    this.pool = pool;
+    return this;
+  }
+
+  /**
+   * chunk의 크기(bytes) 지정(기본값: 4MB)
+   * <p>
+   * 실제 chunk는 다음 줄바꿈까지 늘어난다.
+   * @param chunkSize chunk 크기(bytes)
+   * @return this
+   */
+  public ParallelNDJSONReader chunkSize(int chunkSize) {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+    }
+    this.chunkSize = chunkSize;
+    return this;
+  }
+
+  /**
+   * 모든 줄을 병렬로 파싱하여 원래 순서대로 JSONList로 모아 리턴
+   * @return JSONList object
+   * @throws IOException
+   */
+  public JSONList readAll() throws IOException {
+    try (Input input = open()) {
+      List<long[]> chunks = split(input);
+      ChunkTasks state = new ChunkTasks();
+      List<ForkJoinTask<JSONList>> tasks = new ArrayList<>(chunks.size());
+      for (long[] chunk : chunks) {
+        tasks.add(submit(state, () -> {
+          JSONList rows = new JSONList();
+          parseChunk(input, chunk[0], chunk[1], state, rows::add);
+          return rows;
+        }));
+      }
+      List<JSONList> results = joinAll(tasks, state);
+      int size = 0;
+      for (JSONList rows : results) {
+        size += rows.size();
+      }
+      JSONList list = new JSONList(size);
+      for (JSONList rows : results) {
+        list.addAll(rows);
+      }
+      return list;
+    }
+  }
+
+  /**
+   * 모든 줄을 병렬로 파싱하며, 순서와 관계없이 각 worker에서 action을 수행
+   * <p>
+   * action은 여러 thread에서 동시에 호출되므로 thread-safe해야 한다.
+   * @param action 각 JSONMap에 대해 수행할 함수
+   * @throws IOException
+   */
+  public void forEachUnordered(Consumer<? super JSONMap> action) throws IOException {
+    try (Input input = open()) {
+      List<long[]> chunks = split(input);
+      ChunkTasks state = new ChunkTasks();
+      List<ForkJoinTask<Void>> tasks = new ArrayList<>(chunks.size());
+      for (long[] chunk : chunks) {
+        tasks.add(submit(state, () -> {
+          parseChunk(input, chunk[0], chunk[1], state, action);
+          return null;
+        }));
+      }
+      joinAll(tasks, state);
+    }
+  }
+
+  /**
+   * chunk 하나를 처리하는 task를 pool에 제출
+   * <p>
+   * 다른 task가 이미 실패했으면 시작하지 않는다.(null 리턴)
+   * @param state task들의 실행 상태
+   * @param body chunk를 처리하는 함수
+   * @return ForkJoinTask
+   */
+  private <T> ForkJoinTask<T> submit(ChunkTasks state, Supplier<T> body) {
+    return pool.submit(() -> {
+      if (!state.enter()) {
+        return null;
+      }
+      try {
+        return body.get();
+      } catch (RuntimeException | Error e) {
+        state.fail();
+        throw e;
+      } finally {
+        state.exit();
+      }
+    });
+  }
+
+  /**
+   * 모든 task의 결과를 순서대로 모아 리턴
+   * <p>
+   * 하나라도 실패하면 나머지 task를 취소하고, 실행 중인 task가 모두 끝난 뒤 에러를 던진다.
+   * @param tasks 제출한 task 목록
+   * @param state task들의 실행 상태
+   * @return task별 결과
+   * @throws IOException 파싱 실패 시
+   */
+  private static <T> List<T> joinAll(List<ForkJoinTask<T>> tasks, ChunkTasks state) throws IOException {
+    List<T> results = new ArrayList<>(tasks.size());
+    for (ForkJoinTask<T> task : tasks) {
+      try {
+        results.add(task.join());
+      } catch (RuntimeException | Error e) {
+        for (ForkJoinTask<T> t : tasks) {
+          t.cancel(true);
+        }
+        state.failAndAwait();
+        if (e instanceof UncheckedIOException) {
+          throw ((UncheckedIOException) e).getCause();
+        }
+        throw e;
+      }
+    }
+    return results;
+  }
+
+  /**
+   * 입력을 chunkSize 단위로 나누되, 각 chunk의 끝을 다음 줄바꿈 직후로 맞춘다.
+   * @param input 입력
+   * @return chunk 목록({start, end})
+   * @throws IOException
+   */
+  private List<long[]> split(Input input) throws IOException {
+    long size = input.size();
+    List<long[]> chunks = new ArrayList<>((int) Math.min(size / chunkSize + 1, Integer.MAX_VALUE));
+    for (long start = 0; start < size;) {
+      long end = start + chunkSize;
+      end = end >= size ? size : input.nextLineStart(end);
+      chunks.add(new long[] { start, end });
+      start = end;
+    }
+    return chunks;
+  }
+
+  /**
+   * chunk 하나를 parser 하나로 파싱
+   * @param input 입력
+   * @param start chunk 시작 위치
+   * @param end chunk 끝 위치
+   * @param state task들의 실행 상태(다른 task가 실패하면 멈춤)
+   * @param action 각 JSONMap에 대해 수행할 함수
+   */
+  private static void parseChunk(Input input, long start, long end, ChunkTasks state,
+      Consumer<? super JSONMap> action) {
+    ObjectReader reader = ObjectMapperInstance.getMapReader();
+    try (JsonParser parser = reader.createParser(new ByteBufferBackedInputStream(input.slice(start, end)))) {
+      for (JsonToken t = parser.nextToken(); t != null; t = parser.nextToken()) {
+        if (t != JsonToken.START_OBJECT) {
+          throw MismatchedInputException.from(parser, JSONMap.class, "line is not a json object");
+        }
+        JSONMap value = reader.readValue(parser);
+        if (state.isFailed()) {
+          return;
+        }
+        action.accept(value);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(new IOException("malformed json in chunk [" + start + ", " + end + ")", e));
+    }
+  }
+
+  private Input open() throws IOException {
+    return path != null ? new FileInput(FileChannel.open(path, StandardOpenOption.READ)) : new BufferInput(buffer);
+  }
+
+  /**
+   * chunk를 처리하는 task들의 실행 상태
+   * <p>
+   * 하나가 실패하면 아직 시작하지 않은 task는 시작하지 않고, 실행 중인 task는 다음 JSONMap을 전달하기 전에 멈춘다.
+   */
+  private static final class ChunkTasks {
+    private volatile boolean failed;
+    private int running;
+
+    private boolean isFailed() {
+      return failed;
+    }
+
+    /**
+     * task 시작(이미 실패한 경우 false)
+     */
+    private synchronized boolean enter() {
+      if (failed) {
+        return false;
+      }
+      running++;
+      return true;
+    }
+
+    private synchronized void exit() {
+      if (--running == 0) {
+        notifyAll();
+      }
+    }
+
+    private void fail() {
+      failed = true;
+    }
+
+    /**
+     * 실패로 표시하고, 실행 중인 task가 모두 끝날 때까지 기다림
+     */
+    private synchronized void failAndAwait() {
+      failed = true;
+      boolean interrupted = false;
+      while (running > 0) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+      if (interrupted) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * 병렬로 읽을 입력(파일 또는 ByteBuffer)
+   */
+  private interface Input extends Closeable {
+    long size() throws IOException;
+
+    /**
+     * position 이후 첫번째 줄바꿈의 다음 위치(없으면 size)
+     */
+    long nextLineStart(long position) throws IOException;
+
+    /**
+     * [start, end) 구간의 ByteBuffer(여러 thread에서 동시에 호출됨)
+     */
+    ByteBuffer slice(long start, long end) throws IOException;
+  }
+
+  private static final class FileInput implements Input {
+    private final FileChannel channel;
+    private final ByteBuffer scan = ByteBuffer.allocate(8192);
+
+    private FileInput(FileChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public long size() throws IOException {
+      return channel.size();
+    }
+
+    @Override
+    public long nextLineStart(long position) throws IOException {
+      long size = channel.size();
+      while (position < size) {
+        ((Buffer) scan).clear();
+        int n = channel.read(scan, position);
+        if (n <= 0) {
+          break;
+        }
+        for (int i = 0; i < n; i++) {
+          if (scan.get(i) == '\n') {
+            return position + i + 1;
+          }
+        }
+        position += n;
+      }
+      return size;
+    }
+
+    @Override
+    public ByteBuffer slice(long start, long end) throws IOException {
+      return channel.map(MapMode.READ_ONLY, start, end - start);
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
+
+  private static final class BufferInput implements Input {
+    private final ByteBuffer buffer;
+    private final int offset;
+
+    private BufferInput(ByteBuffer buffer) {
+      this.buffer = buffer;
+      this.offset = buffer.position();
+    }
+
+    @Override
+    public long size() {
+      return buffer.limit() - offset;
+    }
+
+    @Override
+    public long nextLineStart(long position) {
+      int limit = buffer.limit();
+      for (int i = offset + (int) position; i < limit; i++) {
+        if (buffer.get(i) == '\n') {
+          return i + 1 - offset;
+        }
+      }
+      return size();
+    }
+
+    @Override
+    public ByteBuffer slice(long start, long end) {
+      ByteBuffer slice = buffer.duplicate();
+      // Buffer로 호출(JDK 9+의 ByteBuffer 반환 메소드가 Java 8에 없음)
+      ((Buffer) slice).limit(offset + (int) end);
+      ((Buffer) slice).position(offset + (int) start);
+      return slice;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
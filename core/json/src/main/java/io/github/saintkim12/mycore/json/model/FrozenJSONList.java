@@ -0,0 +1,144 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * FrozenJSONList
+ * <p>
+ * 변경할 수 없는(immutable) JSONList
+ * <p>
+ * 값을 변경하는 메소드는 UnsupportedOperationException을 발생시킨다.
+ *
+ * @see JSONList#freeze()
+ */
+final class FrozenJSONList extends JSONList {
+  private static final long serialVersionUID = 1L;
+
+  // 0이면 아직 계산하지 않음(원소가 변하지 않으므로 한 번만 계산)
+  private transient int hash;
+
+  FrozenJSONList(Collection<JSONMap> rows) {
+    super(rows.size());
+    for (JSONMap row : rows) {
+      super.add(row);
+    }
+  }
+
+  @Override
+  public boolean isFrozen() {
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    int h = hash;
+    if (h == 0) {
+      h = super.hashCode();
+      hash = h;
+    }
+    return h;
+  }
+
+  @Override
+  int cachedHash() {
+    return hashCode();
+  }
+
+  @Override
+  public JSONList freeze() {
+    return this;
+  }
+
+  @Override
+  public List<JSONMap> subList(int fromIndex, int toIndex) {
+    return Collections.unmodifiableList(super.subList(fromIndex, toIndex));
+  }
+
+  /**
+   * 읽기 전용이므로 복사하지 않고 자기 자신을 리턴
+   */
+  @Override
+  public Object clone() {
+    return this;
+  }
+
+  /* write method(unsupported) */
+  @Override
+  public boolean add(JSONMap e) {
+    throw unsupported();
+  }
+
+  @Override
+  public void add(int index, JSONMap element) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends JSONMap> c) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends JSONMap> c) {
+    throw unsupported();
+  }
+
+  @Override
+  public JSONMap set(int index, JSONMap element) {
+    throw unsupported();
+  }
+
+  @Override
+  public JSONMap remove(int index) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean remove(Object o) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean removeAll(Collection<?> c) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean retainAll(Collection<?> c) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean removeIf(Predicate<? super JSONMap> filter) {
+    throw unsupported();
+  }
+
+  @Override
+  public void replaceAll(UnaryOperator<JSONMap> operator) {
+    throw unsupported();
+  }
+
+  @Override
+  public void sort(Comparator<? super JSONMap> c) {
+    throw unsupported();
+  }
+
+  @Override
+  public void clear() {
+    throw unsupported();
+  }
+
+  @Override
+  protected void removeRange(int fromIndex, int toIndex) {
+    throw unsupported();
+  }
+
+  private UnsupportedOperationException unsupported() {
+    return new UnsupportedOperationException("read-only JSONList");
+  }
+}
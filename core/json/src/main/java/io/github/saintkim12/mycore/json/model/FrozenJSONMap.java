@@ -0,0 +1,132 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FrozenJSONMap
+ * <p>
+ * 변경할 수 없는(immutable) JSONMap
+ * <p>
+ * Entry 객체 없이 key 배열(JSONShape)과 value 배열에 나누어 담는다.(entry당 reference 2개)
+ * key 검색은 JSONShape의 open addressing table을 사용하며, 순회 순서는 입력(insertion) 순서와 같다.
+ *
+ * @see JSONMap#freeze()
+ */
+final class FrozenJSONMap extends ReadOnlyJSONMap {
+  private static final long serialVersionUID = 1L;
+
+  private final JSONShape shape;
+  private final Object[] values;
+  // 0이면 아직 계산하지 않음(값이 변하지 않으므로 한 번만 계산)
+  private transient int hash;
+
+  FrozenJSONMap(JSONShape shape, Object[] values) {
+    this.shape = shape;
+    this.values = values;
+  }
+
+  @Override
+  public int size() {
+    return values.length;
+  }
+
+  @Override
+  String keyAt(int slot) {
+    return shape.keyAt(slot);
+  }
+
+  @Override
+  Object valueAt(int slot) {
+    return values[slot];
+  }
+
+  @Override
+  int indexOf(Object key) {
+    return shape.indexOf(key);
+  }
+
+  @Override
+  public int hashCode() {
+    int h = hash;
+    if (h == 0) {
+      h = super.hashCode();
+      hash = h;
+    }
+    return h;
+  }
+
+  @Override
+  int cachedHash() {
+    return hashCode();
+  }
+
+  @Override
+  boolean equalsEntries(Map<?, ?> m) {
+    if (m instanceof FrozenJSONMap && shape.sameKeys(((FrozenJSONMap) m).shape)) {
+      // 같은 key 구성이면 slot 순서대로 값만 비교
+      return Arrays.equals(values, ((FrozenJSONMap) m).values);
+    }
+    return super.equalsEntries(m);
+  }
+
+  @Override
+  public JSONMap freeze() {
+    return this;
+  }
+
+  /* static method */
+  /**
+   * map을 FrozenJSONMap으로 복사
+   * <p>
+   * 중첩된 값도 함께 변경할 수 없게 만든다.(JSONMap, JSONList는 freeze, 그 외 List는 unmodifiableList)
+   * @param map Map object
+   * @return FrozenJSONMap object
+   */
+  static FrozenJSONMap copyOf(Map<String, Object> map) {
+    JSONShape shape = map instanceof JSONMap ? ShapedJSONMap.shapeOf((JSONMap) map) : null;
+    if (shape != null) {
+      // 같은 JSONList의 row들은 JSONShape을 계속 공유
+      Object[] values = new Object[shape.size()];
+      int slot = 0;
+      for (Object value : map.values()) {
+        values[slot++] = freezeValue(value);
+      }
+      return new FrozenJSONMap(shape, values);
+    }
+    int size = map.size();
+    String[] keys = new String[size];
+    Object[] values = new Object[size];
+    int slot = 0;
+    for (Map.Entry<String, Object> e : map.entrySet()) {
+      keys[slot] = e.getKey();
+      values[slot] = freezeValue(e.getValue());
+      slot++;
+    }
+    return new FrozenJSONMap(new JSONShape(keys), values);
+  }
+
+  /**
+   * 값을 변경할 수 없는 형태로 변환
+   * @param value value
+   * @return frozen value
+   */
+  static Object freezeValue(Object value) {
+    if (value instanceof JSONMap) {
+      return ((JSONMap) value).freeze();
+    } else if (value instanceof JSONList) {
+      return ((JSONList) value).freeze();
+    } else if (value instanceof List) {
+      List<?> list = (List<?>) value;
+      List<Object> frozen = new ArrayList<>(list.size());
+      for (Object o : list) {
+        frozen.add(freezeValue(o));
+      }
+      return Collections.unmodifiableList(frozen);
+    }
+    return value;
+  }
+}
@@ -0,0 +1,638 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSONColumns
+ * <p>
+ * JSONList(row 목록)를 key별 column으로 나누어 담는 columnar(struct-of-arrays) 표현(immutable)
+ * <p>
+ * column의 타입은 값에 따라 정해진다.
+ * <ul>
+ * <li>모든 값이 Integer -> {@link IntColumn}(int[])</li>
+ * <li>모든 값이 Integer 또는 int 범위를 벗어나는 Long(jackson 파싱 결과와 같음) -> {@link LongColumn}(long[])</li>
+ * <li>모든 값이 Double -> {@link DoubleColumn}(double[])</li>
+ * <li>Double과 Integer, Long이 섞인 경우(ex> 10, 10.5) -> {@link DoubleColumn}(double[], 정수였던 row는 bitmap으로 구분)
+ * <br>단, double로 정확히 표현할 수 없는 Long(절대값 2^53 초과)이 있으면 {@link ObjectColumn}</li>
+ * <li>그 외 -> {@link ObjectColumn}(Object[])</li>
+ * </ul>
+ * null 값과 key가 없는 row는 bitmap으로 구분한다.
+ * <p>
+ * 숫자 column은 boxing 없이 primitive 값으로 순회할 수 있다.
+ *
+ * <pre>
+ * JSONColumns columns = list.toColumns();
+ * DoubleColumn price = columns.doubleColumn("price");
+ * double sum = 0;
+ * for (int i = 0; i &lt; price.size(); i++) {
+ *   if (!price.isNull(i)) sum += price.getDouble(i);
+ * }
+ * </pre>
+ *
+ * {@link #getRow(int)}, {@link #toJSONList()}의 row는 column 값을 읽는 읽기 전용 JSONMap(view)이다.
+ * row의 key 순서는 column 순서(처음 나타난 순서)를 따른다.
+ *
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class JSONColumns {
+  /* member */
+  private final int size;
+  private final JSONShape shape;
+  private final Column[] columns;
+  // 모든 column에 key가 있는 경우 false(row의 slot == column index)
+  private final boolean sparse;
+
+  /* constructor */
+  private JSONColumns(int size, JSONShape shape, Column[] columns) {
+    this.size = size;
+    this.shape = shape;
+    this.columns = columns;
+    boolean sparse = false;
+    for (Column column : columns) {
+      sparse |= column.missing != null;
+    }
+    this.sparse = sparse;
+  }
+
+  /* original method */
+  /**
+   * @return row 개수
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return column key 목록(처음 나타난 순서)
+   */
+  public List<String> keys() {
+    List<String> keys = new ArrayList<>(columns.length);
+    for (Column column : columns) {
+      keys.add(column.key);
+    }
+    return Collections.unmodifiableList(keys);
+  }
+
+  /**
+   * @param key key
+   * @return column 존재 여부
+   */
+  public boolean hasColumn(String key) {
+    return shape.indexOf(key) >= 0;
+  }
+
+  /**
+   * key의 column을 리턴
+   * @param key key
+   * @return Column object
+   * @throws IllegalArgumentException column이 없는 경우
+   */
+  public Column column(String key) {
+    int index = shape.indexOf(key);
+    if (index < 0) {
+      throw new IllegalArgumentException("no such column: " + key);
+    }
+    return columns[index];
+  }
+
+  /**
+   * key의 column을 IntColumn으로 리턴
+   * @param key key
+   * @return IntColumn object
+   * @throws IllegalArgumentException column이 없는 경우
+   * @throws ClassCastException int column이 아닌 경우
+   */
+  public IntColumn intColumn(String key) {
+    return castColumn(key, IntColumn.class);
+  }
+
+  /**
+   * key의 column을 LongColumn으로 리턴
+   * @param key key
+   * @return LongColumn object
+   * @throws IllegalArgumentException column이 없는 경우
+   * @throws ClassCastException long column이 아닌 경우
+   */
+  public LongColumn longColumn(String key) {
+    return castColumn(key, LongColumn.class);
+  }
+
+  /**
+   * key의 column을 DoubleColumn으로 리턴
+   * @param key key
+   * @return DoubleColumn object
+   * @throws IllegalArgumentException column이 없는 경우
+   * @throws ClassCastException double column이 아닌 경우
+   */
+  public DoubleColumn doubleColumn(String key) {
+    return castColumn(key, DoubleColumn.class);
+  }
+
+  /**
+   * 숫자 column의 값을 double 배열로 복사하여 리턴
+   * <p>
+   * int, long, double column은 boxing 없이 복사하며, object column은 Number 값만 변환한다.
+   * @param key key
+   * @param missing null, key 없음, 숫자가 아닌 값 대신 넣을 값
+   * @return double array
+   * @throws IllegalArgumentException column이 없는 경우
+   */
+  public double[] toDoubleArray(String key, double missing) {
+    Column column = column(key);
+    double[] result = new double[size];
+    column.copyTo(result, missing);
+    return result;
+  }
+
+  /**
+   * row를 읽기 전용 JSONMap(view)으로 리턴
+   * @param row row index
+   * @return JSONMap object
+   * @throws IndexOutOfBoundsException row 범위를 벗어난 경우
+   */
+  public JSONMap getRow(int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("row: " + row + ", size: " + size);
+    }
+    return new Row(row);
+  }
+
+  /**
+   * 전체 row를 읽기 전용 JSONList로 리턴
+   * <p>
+   * 각 row는 column 값을 읽는 view이므로, 값을 복사하지 않는다.
+   * @return JSONList object
+   */
+  public JSONList toJSONList() {
+    List<JSONMap> rows = new ArrayList<>(size);
+    for (int row = 0; row < size; row++) {
+      rows.add(new Row(row));
+    }
+    return new FrozenJSONList(rows);
+  }
+
+  private <C extends Column> C castColumn(String key, Class<C> type) {
+    Column column = column(key);
+    if (!type.isInstance(column)) {
+      throw new ClassCastException("column " + key + " is " + column.getClass().getSimpleName() + ", not " + type.getSimpleName());
+    }
+    return type.cast(column);
+  }
+
+  /* static method */
+  /**
+   * row 목록을 JSONColumns로 변환
+   * <p>
+   * null row는 모든 key가 없는 row로 취급한다.
+   * @param rows row(Map) 목록
+   * @return JSONColumns object
+   */
+  public static JSONColumns from(List<? extends Map<String, ?>> rows) {
+    int size = rows.size();
+    // 1. key 수집 및 column 타입 결정
+    Map<String, int[]> kinds = new LinkedHashMap<>();
+    for (Map<String, ?> row : rows) {
+      if (row == null) {
+        continue;
+      }
+      row.forEach((k, v) -> {
+        int[] kind = kinds.get(k);
+        if (kind == null) {
+          kinds.put(k, kind = new int[1]);
+        }
+        kind[0] |= kindOf(v);
+      });
+    }
+    // 2. column 생성 및 값 채우기
+    String[] keys = kinds.keySet().toArray(new String[0]);
+    Column[] columns = new Column[keys.length];
+    int index = 0;
+    for (int[] kind : kinds.values()) {
+      columns[index] = newColumn(keys[index], kind[0], size);
+      index++;
+    }
+    JSONShape shape = new JSONShape(keys);
+    for (int row = 0; row < size; row++) {
+      Map<String, ?> map = rows.get(row);
+      int present = 0;
+      if (map != null) {
+        for (Map.Entry<String, ?> e : map.entrySet()) {
+          Column column = columns[shape.indexOf(e.getKey())];
+          column.set(row, e.getValue());
+          column.present = row + 1;
+          present++;
+        }
+      }
+      if (present < columns.length) {
+        for (Column column : columns) {
+          if (column.present != row + 1) {
+            column.missing = setBit(column.missing, row, size);
+          }
+        }
+      }
+    }
+    return new JSONColumns(size, shape, columns);
+  }
+
+  private static final int KIND_INT = 1;
+  private static final int KIND_LONG = 2;
+  private static final int KIND_DOUBLE = 4;
+  private static final int KIND_OTHER = 8;
+  // double로 정확히 표현할 수 없는 long
+  private static final int KIND_INEXACT_LONG = 16;
+
+  private static int kindOf(Object value) {
+    if (value == null) {
+      return 0;
+    } else if (value instanceof Integer) {
+      return KIND_INT;
+    } else if (value instanceof Long) {
+      long l = (Long) value;
+      // int 범위의 Long은 row view에서 같은 타입으로 되돌릴 수 없음
+      if (l == (int) l) {
+        return KIND_OTHER;
+      }
+      // Long.MAX_VALUE는 double로 변환 후 되돌려도 같은 값(saturation)이지만 정확하지 않음
+      return l == (long) (double) l && l != Long.MAX_VALUE ? KIND_LONG : KIND_LONG | KIND_INEXACT_LONG;
+    } else if (value instanceof Double) {
+      return KIND_DOUBLE;
+    }
+    return KIND_OTHER;
+  }
+
+  private static Column newColumn(String key, int kind, int size) {
+    switch (kind & ~KIND_INEXACT_LONG) {
+    case KIND_INT:
+      return new IntColumn(key, size);
+    case KIND_LONG:
+    case KIND_LONG | KIND_INT:
+      return new LongColumn(key, size);
+    case KIND_DOUBLE:
+      return new DoubleColumn(key, size);
+    case KIND_DOUBLE | KIND_INT:
+    case KIND_DOUBLE | KIND_LONG:
+    case KIND_DOUBLE | KIND_LONG | KIND_INT:
+      // double로 정확히 표현할 수 없는 long이 있으면 값이 바뀌므로 제외
+      return (kind & KIND_INEXACT_LONG) == 0 ? new DoubleColumn(key, size) : new ObjectColumn(key, size);
+    default:
+      return new ObjectColumn(key, size);
+    }
+  }
+
+  private static boolean getBit(long[] bits, int index) {
+    return bits != null && (bits[index >>> 6] & (1L << index)) != 0;
+  }
+
+  private static long[] setBit(long[] bits, int index, int size) {
+    if (bits == null) {
+      bits = new long[(size + 63) >>> 6];
+    }
+    bits[index >>> 6] |= 1L << index;
+    return bits;
+  }
+
+  /* column */
+  /**
+   * column(key 하나의 모든 row 값)
+   */
+  public abstract static class Column {
+    private final String key;
+    private final int size;
+    // null 값인 row
+    private long[] nulls;
+    // key가 없는 row
+    private long[] missing;
+    // 값 채우기 중 마지막으로 값이 있던 row + 1
+    private int present;
+
+    private Column(String key, int size) {
+      this.key = key;
+      this.size = size;
+    }
+
+    /**
+     * @return column key
+     */
+    public String key() {
+      return key;
+    }
+
+    /**
+     * @return row 개수
+     */
+    public int size() {
+      return size;
+    }
+
+    /**
+     * @param row row index
+     * @return 값이 null이거나 key가 없는지 여부
+     */
+    public final boolean isNull(int row) {
+      return getBit(nulls, row) || getBit(missing, row);
+    }
+
+    /**
+     * @param row row index
+     * @return key가 없는지 여부
+     */
+    public final boolean isMissing(int row) {
+      return getBit(missing, row);
+    }
+
+    /**
+     * @param row row index
+     * @return 값(boxing) 또는 null
+     */
+    public abstract Object get(int row);
+
+    final void set(int row, Object value) {
+      if (value == null) {
+        nulls = setBit(nulls, row, size);
+      } else {
+        setValue(row, value);
+      }
+    }
+
+    abstract void setValue(int row, Object value);
+
+    abstract void copyTo(double[] dst, double missing);
+
+    /**
+     * null 값, key가 없는 row 위치를 missing으로 채움
+     * <p>
+     * copyTo에서 값 복사(분기 없는 loop)와 분리하여, 복사 loop가 vectorize될 수 있도록 한다.
+     */
+    final void fillNulls(double[] dst, double missing) {
+      fillBits(nulls, dst, missing);
+      fillBits(this.missing, dst, missing);
+    }
+
+    private static void fillBits(long[] bits, double[] dst, double value) {
+      if (bits == null) {
+        return;
+      }
+      for (int word = 0; word < bits.length; word++) {
+        for (long w = bits[word]; w != 0; w &= w - 1) {
+          dst[(word << 6) + Long.numberOfTrailingZeros(w)] = value;
+        }
+      }
+    }
+  }
+
+  /**
+   * int 값 column
+   */
+  public static final class IntColumn extends Column {
+    private final int[] values;
+
+    private IntColumn(String key, int size) {
+      super(key, size);
+      this.values = new int[size];
+    }
+
+    /**
+     * @param row row index
+     * @return 값(null인 경우 0)
+     */
+    public int getInt(int row) {
+      return values[row];
+    }
+
+    /**
+     * @return 값 배열의 복사본(null인 경우 0)
+     */
+    public int[] toArray() {
+      return values.clone();
+    }
+
+    @Override
+    public Object get(int row) {
+      return isNull(row) ? null : Integer.valueOf(values[row]);
+    }
+
+    @Override
+    void setValue(int row, Object value) {
+      values[row] = (Integer) value;
+    }
+
+    @Override
+    void copyTo(double[] dst, double missing) {
+      for (int row = 0; row < values.length; row++) {
+        dst[row] = values[row];
+      }
+      fillNulls(dst, missing);
+    }
+  }
+
+  /**
+   * long 값 column
+   * <p>
+   * int 범위의 값은 Integer로, 그 외는 Long으로 읽는다.(jackson 파싱 결과와 같음)
+   */
+  public static final class LongColumn extends Column {
+    private final long[] values;
+
+    private LongColumn(String key, int size) {
+      super(key, size);
+      this.values = new long[size];
+    }
+
+    /**
+     * @param row row index
+     * @return 값(null인 경우 0)
+     */
+    public long getLong(int row) {
+      return values[row];
+    }
+
+    /**
+     * @return 값 배열의 복사본(null인 경우 0)
+     */
+    public long[] toArray() {
+      return values.clone();
+    }
+
+    @Override
+    public Object get(int row) {
+      if (isNull(row)) {
+        return null;
+      }
+      long value = values[row];
+      return value == (int) value ? (Object) Integer.valueOf((int) value) : (Object) Long.valueOf(value);
+    }
+
+    @Override
+    void setValue(int row, Object value) {
+      values[row] = ((Number) value).longValue();
+    }
+
+    @Override
+    void copyTo(double[] dst, double missing) {
+      for (int row = 0; row < values.length; row++) {
+        dst[row] = values[row];
+      }
+      fillNulls(dst, missing);
+    }
+  }
+
+  /**
+   * double 값 column
+   * <p>
+   * Integer, Long이었던 row는 row view에서 원래 타입(int 범위는 Integer, 그 외는 Long)으로 읽는다.
+   */
+  public static final class DoubleColumn extends Column {
+    private final double[] values;
+    // Integer, Long이었던 row
+    private long[] integral;
+
+    private DoubleColumn(String key, int size) {
+      super(key, size);
+      this.values = new double[size];
+    }
+
+    /**
+     * @param row row index
+     * @return 값(null인 경우 0)
+     */
+    public double getDouble(int row) {
+      return values[row];
+    }
+
+    /**
+     * @return 값 배열의 복사본(null인 경우 0)
+     */
+    public double[] toArray() {
+      return values.clone();
+    }
+
+    /**
+     * @param row row index
+     * @return 원래 값이 Integer, Long이었는지 여부
+     */
+    public boolean isIntegral(int row) {
+      return getBit(integral, row);
+    }
+
+    @Override
+    public Object get(int row) {
+      if (isNull(row)) {
+        return null;
+      }
+      if (getBit(integral, row)) {
+        long value = (long) values[row];
+        return value == (int) value ? (Object) Integer.valueOf((int) value) : (Object) Long.valueOf(value);
+      }
+      return Double.valueOf(values[row]);
+    }
+
+    @Override
+    void setValue(int row, Object value) {
+      if (value instanceof Double) {
+        values[row] = (Double) value;
+      } else {
+        values[row] = ((Number) value).doubleValue();
+        integral = setBit(integral, row, size());
+      }
+    }
+
+    @Override
+    void copyTo(double[] dst, double missing) {
+      for (int row = 0; row < values.length; row++) {
+        dst[row] = values[row];
+      }
+      fillNulls(dst, missing);
+    }
+  }
+
+  /**
+   * 그 외 값 column
+   */
+  public static final class ObjectColumn extends Column {
+    private final Object[] values;
+
+    private ObjectColumn(String key, int size) {
+      super(key, size);
+      this.values = new Object[size];
+    }
+
+    @Override
+    public Object get(int row) {
+      return values[row];
+    }
+
+    @Override
+    void setValue(int row, Object value) {
+      values[row] = value;
+    }
+
+    @Override
+    void copyTo(double[] dst, double missing) {
+      for (int row = 0; row < values.length; row++) {
+        Object value = values[row];
+        dst[row] = value instanceof Number ? ((Number) value).doubleValue() : missing;
+      }
+    }
+  }
+
+  /* row view */
+  /**
+   * column 값을 읽는 읽기 전용 row
+   */
+  private final class Row extends ReadOnlyJSONMap {
+    private static final long serialVersionUID = 1L;
+
+    private final int row;
+    // key가 없는 column이 있는 경우, slot -> column index
+    private int[] slots;
+
+    private Row(int row) {
+      this.row = row;
+    }
+
+    private int[] slots() {
+      if (slots == null) {
+        int[] s = new int[columns.length];
+        int count = 0;
+        for (int index = 0; index < columns.length; index++) {
+          if (!columns[index].isMissing(row)) {
+            s[count++] = index;
+          }
+        }
+        slots = Arrays.copyOf(s, count);
+      }
+      return slots;
+    }
+
+    @Override
+    public int size() {
+      return sparse ? slots().length : columns.length;
+    }
+
+    @Override
+    String keyAt(int slot) {
+      return columns[sparse ? slots()[slot] : slot].key;
+    }
+
+    @Override
+    Object valueAt(int slot) {
+      return columns[sparse ? slots()[slot] : slot].get(row);
+    }
+
+    @Override
+    int indexOf(Object key) {
+      int index = shape.indexOf(key);
+      if (index < 0 || !sparse) {
+        return index;
+      }
+      return columns[index].isMissing(row) ? -1 : Arrays.binarySearch(slots(), index);
+    }
+  }
+}
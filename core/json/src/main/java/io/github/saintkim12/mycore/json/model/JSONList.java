@@ -1,25 +1,45 @@
 package io.github.saintkim12.mycore.json.model;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.github.saintkim12.mycore.json.io.MappedFileInputStream;
+import io.github.saintkim12.mycore.json.model.JSONMetrics.CountingOutputStream;
+import io.github.saintkim12.mycore.json.model.JSONMetrics.CountingWriter;
+import io.github.saintkim12.mycore.metrics.Metrics;
+import io.github.saintkim12.mycore.metrics.MetricsRecorder;
+import io.github.saintkim12.mycore.number.helper.NumberHelper;
 import lombok.Builder;
-import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 /**
  * JSONList
  * <p>
- * JSONMap으로 이루어진 List(LinkedList)
+ * JSONMap으로 이루어진 List(ArrayList)
+ * <p>
+ * 배열 기반이므로 get(i), set(i)가 O(1)이다.(RandomAccess)
+ * <p>
+ * 이전 버전(LinkedList 기반)과의 호환을 위해 addFirst, removeFirst 등 Deque의 주요 메소드를 제공한다.
+ * 맨 앞의 원소를 추가/삭제하는 메소드는 O(n)이므로, Deque가 필요한 경우 {@link #toDeque()}를 사용한다.
  * 
  * @author saintkim12
  * @version 0.1.0
@@ -27,12 +47,20 @@ import lombok.NoArgsConstructor;
  */
 @Builder(toBuilder = false)
 @NoArgsConstructor
-@EqualsAndHashCode(callSuper = false)
-public class JSONList extends LinkedList<JSONMap> {
+public class JSONList extends ArrayList<JSONMap> {
   /* member */
 
   /* constructor */
+  /**
+   * 초기 용량을 지정하여 생성
+   * @param initialCapacity 초기 용량(예상 크기)
+   */
+  public JSONList(int initialCapacity) {
+    super(initialCapacity);
+  }
+
   public <T extends Map<String, Object>> JSONList(List<T> l) {
+    super(l.size());
     l.stream().map(JSONMap::from).forEach(this::add);
   }
 
@@ -44,13 +72,64 @@ public class JSONList extends LinkedList<JSONMap> {
   /* default method */
   @Override
   public String toString() {
+    long start = Metrics.start();
     try {
-      return ObjectMapperInstance.getInstance().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+      String json = ObjectMapperInstance.getPrettyWriter().writeValueAsString(this);
+      Metrics.record(JSONMetrics.SERIALIZE_LIST, start, json.length());
+      return json;
     } catch (Exception e) {
+      Metrics.recordFailure(JSONMetrics.SERIALIZE_LIST, start);
       return super.toString();
     }
   }
 
+  /**
+   * 같은 순서로 같은 원소를 가진 List이면 같다고 판단한다.(List.equals 규약)
+   * <p>
+   * 두 JSONList 모두 hash가 계산되어 있으면(변경할 수 없는 JSONList) hash가 다른 경우 원소를 비교하지 않고 false를 리턴한다.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof JSONList)) {
+      return super.equals(o);
+    }
+    JSONList l = (JSONList) o;
+    int size = this.size();
+    if (l.size() != size) {
+      return false;
+    }
+    int hash = this.cachedHash();
+    int otherHash = l.cachedHash();
+    if (hash != 0 && otherHash != 0 && hash != otherHash) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (!Objects.equals(this.get(i), l.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 원소 hash로 계산한 hashCode(List.hashCode 규약)
+   */
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  /**
+   * 계산해 둔 hashCode
+   * @return hashCode 또는 0(계산해 두지 않는 경우)
+   */
+  int cachedHash() {
+    return 0;
+  }
+
   /* original method */
   /**
    * Java List(LinkedList)으로 변환하여 리턴
@@ -68,6 +147,258 @@ public class JSONList extends LinkedList<JSONMap> {
     return list;
   }
 
+  /**
+   * JSONList을 json으로 OutputStream에 출력(UTF-8)
+   * <p>
+   * 중간 String 객체를 만들지 않으며, 출력 후 out을 닫지 않는다.
+   * @param out OutputStream
+   * @throws IOException
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    if (!Metrics.isEnabled()) {
+      ObjectMapperInstance.getWriter().writeValue(out, this);
+      return;
+    }
+    long start = Metrics.start();
+    CountingOutputStream counting = new CountingOutputStream(out);
+    try {
+      ObjectMapperInstance.getWriter().writeValue(counting, this);
+    } catch (IOException | RuntimeException e) {
+      Metrics.recordFailure(JSONMetrics.SERIALIZE_LIST, start);
+      throw e;
+    }
+    Metrics.record(JSONMetrics.SERIALIZE_LIST, start, counting.getCount());
+  }
+
+  /**
+   * JSONList을 json으로 Writer에 출력
+   * <p>
+   * 중간 String 객체를 만들지 않으며, 출력 후 writer를 닫지 않는다.
+   * @param writer Writer
+   * @throws IOException
+   */
+  public void writeTo(Writer writer) throws IOException {
+    if (!Metrics.isEnabled()) {
+      ObjectMapperInstance.getWriter().writeValue(writer, this);
+      return;
+    }
+    long start = Metrics.start();
+    CountingWriter counting = new CountingWriter(writer);
+    try {
+      ObjectMapperInstance.getWriter().writeValue(counting, this);
+    } catch (IOException | RuntimeException e) {
+      Metrics.recordFailure(JSONMetrics.SERIALIZE_LIST, start);
+      throw e;
+    }
+    Metrics.record(JSONMetrics.SERIALIZE_LIST, start, counting.getCount());
+  }
+
+  /**
+   * JSONList을 json(UTF-8) byte 배열로 변환하여 리턴
+   * @return json bytes
+   * @throws JsonProcessingException
+   */
+  public byte[] toJsonBytes() throws JsonProcessingException {
+    long start = Metrics.start();
+    try {
+      byte[] json = ObjectMapperInstance.getWriter().writeValueAsBytes(this);
+      Metrics.record(JSONMetrics.SERIALIZE_LIST, start, json.length);
+      return json;
+    } catch (JsonProcessingException | RuntimeException e) {
+      Metrics.recordFailure(JSONMetrics.SERIALIZE_LIST, start);
+      throw e;
+    }
+  }
+
+  /* Deque(LinkedList) 호환 method */
+  /**
+   * list의 맨 앞에 추가(O(n))
+   * @see java.util.Deque#addFirst
+   * @param e JSONMap object
+   */
+  public void addFirst(JSONMap e) {
+    add(0, e);
+  }
+
+  /**
+   * list의 맨 뒤에 추가
+   * @see java.util.Deque#addLast
+   * @param e JSONMap object
+   */
+  public void addLast(JSONMap e) {
+    add(e);
+  }
+
+  /**
+   * list의 첫번째 값 리턴
+   * @see java.util.Deque#getFirst
+   * @return 첫번째 값
+   * @throws NoSuchElementException list가 비어있는 경우
+   */
+  public JSONMap getFirst() {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return get(0);
+  }
+
+  /**
+   * list의 마지막 값 리턴
+   * @see java.util.Deque#getLast
+   * @return 마지막 값
+   * @throws NoSuchElementException list가 비어있는 경우
+   */
+  public JSONMap getLast() {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return get(size() - 1);
+  }
+
+  /**
+   * list의 첫번째 값을 삭제하고 리턴(O(n))
+   * @see java.util.Deque#removeFirst
+   * @return 첫번째 값
+   * @throws NoSuchElementException list가 비어있는 경우
+   */
+  public JSONMap removeFirst() {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return remove(0);
+  }
+
+  /**
+   * list의 마지막 값을 삭제하고 리턴
+   * @see java.util.Deque#removeLast
+   * @return 마지막 값
+   * @throws NoSuchElementException list가 비어있는 경우
+   */
+  public JSONMap removeLast() {
+    if (isEmpty()) {
+      throw new NoSuchElementException();
+    }
+    return remove(size() - 1);
+  }
+
+  /**
+   * list의 첫번째 값 리턴
+   * @see java.util.Deque#peekFirst
+   * @return 첫번째 값 또는 null(list가 비어있는 경우)
+   */
+  public JSONMap peekFirst() {
+    return isEmpty() ? null : get(0);
+  }
+
+  /**
+   * list의 마지막 값 리턴
+   * @see java.util.Deque#peekLast
+   * @return 마지막 값 또는 null(list가 비어있는 경우)
+   */
+  public JSONMap peekLast() {
+    return isEmpty() ? null : get(size() - 1);
+  }
+
+  /**
+   * list의 첫번째 값을 삭제하고 리턴(O(n))
+   * @see java.util.Deque#pollFirst
+   * @return 첫번째 값 또는 null(list가 비어있는 경우)
+   */
+  public JSONMap pollFirst() {
+    return isEmpty() ? null : remove(0);
+  }
+
+  /**
+   * list의 마지막 값을 삭제하고 리턴
+   * @see java.util.Deque#pollLast
+   * @return 마지막 값 또는 null(list가 비어있는 경우)
+   */
+  public JSONMap pollLast() {
+    return isEmpty() ? null : remove(size() - 1);
+  }
+
+  /**
+   * list의 값을 담은 Deque(ArrayDeque) 생성
+   * <p>
+   * 맨 앞의 원소를 자주 추가/삭제하는 경우 사용
+   * @return Deque object
+   */
+  public Deque<JSONMap> toDeque() {
+    return new ArrayDeque<>(this);
+  }
+
+  /**
+   * 모든 row에서 key의 값을 double로 변환하여 dst에 담는다.
+   * <p>
+   * 값이 없거나(null row 포함) 변환할 수 없는 경우 missing으로 채우며, 예외는 발생하지 않는다.
+   * @see NumberHelper#parseDoubles(Object[], double[], double)
+   * @param key key
+   * @param dst 결과 배열(size() 이상의 길이)
+   * @param missing 값이 없거나 변환 실패 시 넣을 값
+   * @return 변환 실패(값 없음 포함) 개수
+   */
+  public int getDoubles(Object key, double[] dst, double missing) {
+    return NumberHelper.getInstance().parseDoubles(this.valuesOf(key), dst, missing);
+  }
+
+  /**
+   * 모든 row에서 key의 값을 long으로 변환하여 dst에 담는다.
+   * <p>
+   * 값이 없거나(null row 포함) 변환할 수 없는 경우 missing으로 채우며, 예외는 발생하지 않는다.
+   * @see NumberHelper#parseLongs(Object[], long[], long)
+   * @param key key
+   * @param dst 결과 배열(size() 이상의 길이)
+   * @param missing 값이 없거나 변환 실패 시 넣을 값
+   * @return 변환 실패(값 없음 포함) 개수
+   */
+  public int getLongs(Object key, long[] dst, long missing) {
+    return NumberHelper.getInstance().parseLongs(this.valuesOf(key), dst, missing);
+  }
+
+  private Object[] valuesOf(Object key) {
+    Object[] values = new Object[size()];
+    for (int i = 0; i < values.length; i++) {
+      JSONMap row = get(i);
+      values[i] = row == null ? null : row.get(key);
+    }
+    return values;
+  }
+
+  /**
+   * key별 column으로 나누어 담은 JSONColumns로 변환
+   * <p>
+   * 숫자 값을 boxing 없이 반복해서 읽어야 하는 경우 사용
+   * @see JSONColumns
+   * @return JSONColumns object
+   */
+  public JSONColumns toColumns() {
+    return JSONColumns.from(this);
+  }
+
+  /**
+   * 변경할 수 없는(immutable) JSONList로 복사하여 리턴
+   * <p>
+   * 각 JSONMap도 {@link JSONMap#freeze()}로 변경할 수 없게 만든다.
+   * 이미 변경할 수 없는 JSONList인 경우 자기 자신을 리턴한다.
+   * @return immutable JSONList object
+   */
+  public JSONList freeze() {
+    List<JSONMap> rows = new ArrayList<>(size());
+    for (JSONMap row : this) {
+      rows.add(row == null ? null : row.freeze());
+    }
+    return new FrozenJSONList(rows);
+  }
+
+  /**
+   * 변경할 수 없는(immutable) JSONList인지 확인
+   * @see #freeze()
+   * @return immutable 여부
+   */
+  public boolean isFrozen() {
+    return false;
+  }
+
   /* static method */
   /**
    * List(or not) 객체를 JSONList로 변환
@@ -75,7 +406,15 @@ public class JSONList extends LinkedList<JSONMap> {
    * @return JSONList object
    */
   public static JSONList from(Object object) {
-    return ObjectInstance.getInstance().createJsonListFromObject.apply(object);
+    long start = Metrics.start();
+    try {
+      JSONList resultList = ObjectInstance.getInstance().createJsonListFromObject(object);
+      Metrics.record(JSONMetrics.CONVERT_LIST, start);
+      return resultList;
+    } catch (RuntimeException e) {
+      Metrics.recordFailure(JSONMetrics.CONVERT_LIST, start);
+      throw e;
+    }
   }
 
   /**
@@ -115,8 +454,30 @@ public class JSONList extends LinkedList<JSONMap> {
    * @throws JsonProcessingException
    */
   public static JSONList fromJsonString(String jsonString, ObjectMapper mapper) throws JsonProcessingException {
-    ObjectMapper mpr = Optional.ofNullable(mapper).orElseGet(ObjectMapperInstance::getInstance);
-    return JSONList.from(mpr.readValue(jsonString, LinkedList.class));
+    long start = Metrics.start();
+    try {
+      JSONList value = readJsonString(jsonString, mapper);
+      Metrics.record(JSONMetrics.PARSE_LIST, start, jsonString.length());
+      return value;
+    } catch (JsonProcessingException | RuntimeException e) {
+      Metrics.recordFailure(JSONMetrics.PARSE_LIST, start);
+      throw e;
+    }
+  }
+
+  /**
+   * json String을 JSONList으로 변환(fromJsonString의 측정 제외 구현)
+   */
+  private static JSONList readJsonString(String jsonString, ObjectMapper mapper) throws JsonProcessingException {
+    JSONList value;
+    if (mapper == null) {
+      value = ObjectMapperInstance.getListReader().readValue(jsonString);
+    } else if (JSONModule.isRegistered(mapper)) {
+      value = mapper.readValue(jsonString, JSONList.class);
+    } else {
+      return JSONList.from(mapper.readValue(jsonString, LinkedList.class));
+    }
+    return value == null ? new JSONList() : value;
   }
 
   /**
@@ -156,6 +517,32 @@ public class JSONList extends LinkedList<JSONMap> {
     }
   }
 
+  /**
+   * json 파일을 JSONList으로 변환
+   * <p>
+   * 파일을 memory-mapping하여 읽으므로, 파일 내용을 String 등으로 heap에 복사하지 않는다.(2GB가 넘는 파일은 나누어 mapping)
+   * <p>
+   * 기본 제공하는 jackson json ObjectMapper을 사용함
+   * <p>
+   * 파싱 실패 시 에러 발생
+   * @see MappedFileInputStream
+   * @param path json 파일 경로
+   * @return JSONList object
+   * @throws IOException
+   */
+  public static JSONList fromPath(Path path) throws IOException {
+    long start = Metrics.start();
+    try (InputStream in = new MappedFileInputStream(path)) {
+      JSONList value = ObjectMapperInstance.getListReader().readValue(in);
+      long size = Metrics.isEnabled() ? Files.size(path) : MetricsRecorder.UNKNOWN_BYTES;
+      Metrics.record(JSONMetrics.PARSE_LIST, start, size);
+      return value == null ? new JSONList() : value;
+    } catch (IOException | RuntimeException e) {
+      Metrics.recordFailure(JSONMetrics.PARSE_LIST, start);
+      throw e;
+    }
+  }
+
   /**
    * JSONMap 1개로 생성된 객체 생성
    * @param k1
@@ -277,20 +664,50 @@ public class JSONList extends LinkedList<JSONMap> {
   }
 
   /* builder */
+  /**
+   * builder 객체 생성
+   * @return JSONListBuilder
+   */
+  public static JSONListBuilder builder() {
+    return new JSONListBuilder();
+  }
+
+  /**
+   * 예상 크기를 지정하여 builder 객체 생성
+   * @param expectedSize 예상 크기(JSONMap 개수)
+   * @return JSONListBuilder
+   */
+  public static JSONListBuilder builder(int expectedSize) {
+    return new JSONListBuilder(expectedSize);
+  }
+
   /**
    * 현재 JSONList object를 기반으로 builder 객체 생성(builder 객체로 변환)
    * @return JSONListBuilder
    */
   public JSONListBuilder toBuilder() {
-    return JSONList.builder().from(this);
+    return JSONList.builder(this.size()).from(this);
   }
 
   /**
    * Builder class
+   * <p>
+   * JSONMap을 JSONList에 바로 담고, build 시 담아둔 JSONList를 복사하지 않고 그대로 넘겨준다.
+   * <p>
+   * 넘겨준 JSONList와 상태를 공유하지 않도록, build 이후에는 builder를 다시 사용할 수 없다.
+   * (add, remove*, build 등 호출 시 IllegalStateException 발생)
    */
   public static class JSONListBuilder {
-    // JSONMap들을 순서대로 담기 위해 List 사용
-    private LinkedList<JSONMap> _stack = new LinkedList<>();
+    // build 결과가 될 JSONList(build 이후 null)
+    private JSONList _list;
+
+    JSONListBuilder() {
+      this(10);
+    }
+
+    JSONListBuilder(int expectedSize) {
+      _list = new JSONList(Math.max(expectedSize, 0));
+    }
 
     /* aliases */
     /**
@@ -318,7 +735,11 @@ public class JSONList extends LinkedList<JSONMap> {
      * @return JSONListBuilder
      */
     public JSONListBuilder addAll(Object object) {
-      ObjectInstance.getInstance().streamJsonListFromObject.apply(object).forEach(_stack::add);
+      if (object instanceof List) {
+        JSONList list = target();
+        list.ensureCapacity(list.size() + ((List<?>) object).size());
+        ObjectInstance.getInstance().collectToJsonList((List<?>) object, list);
+      }
       return this;
     }
 
@@ -329,32 +750,34 @@ public class JSONList extends LinkedList<JSONMap> {
      * @return JSONListBuilder
      */
     public JSONListBuilder add(Map<String, Object> map) {
-      _stack.add(JSONMap.from(map));
+      target().add(JSONMap.from(map));
       return this;
     }
 
     /**
      * list에서 첫번째 값 삭제
-     * @see LinkedList#removeFirst
+     * @see JSONList#removeFirst
      * @param key
      * @return JSONListBuilder
      */
     public JSONListBuilder removeFirst() {
-      if (_stack.size() > 0) {
-        _stack.removeFirst();
+      JSONList list = target();
+      if (list.size() > 0) {
+        list.remove(0);
       }
       return this;
     }
 
     /**
      * list에서 마지막째 값 삭제
-     * @see LinkedList#removeLast
+     * @see JSONList#removeLast
      * @param key
      * @return JSONListBuilder
      */
     public JSONListBuilder removeLast() {
-      if (_stack.size() > 0) {
-        _stack.removeLast();
+      JSONList list = target();
+      if (list.size() > 0) {
+        list.remove(list.size() - 1);
       }
       return this;
     }
@@ -368,19 +791,37 @@ public class JSONList extends LinkedList<JSONMap> {
      * @return JSONListBuilder
      */
     public JSONListBuilder removeIf(Predicate<? super JSONMap> pr) {
-      if (_stack.size() > 0) {
-        _stack.removeIf(pr);
+      JSONList list = target();
+      if (list.size() > 0) {
+        list.removeIf(pr);
       }
       return this;
     }
 
     /* build method */
     /**
-     * list를 기반으로 JSONList 생성
+     * 담아둔 JSONMap으로 JSONList 생성
+     * <p>
+     * 담아둔 JSONList를 복사하지 않고 그대로 리턴한다. 이후에는 builder를 사용할 수 없다.
      * @return JSONList
+     * @throws IllegalStateException 이미 build한 경우
      */
     public JSONList build() {
-      return _stack.stream().collect(Collectors.toCollection(JSONList::new));
+      JSONList list = target();
+      _list = null;
+      return list;
+    }
+
+    /**
+     * 값을 담을 JSONList
+     * @return JSONList
+     * @throws IllegalStateException 이미 build한 경우(넘겨준 JSONList를 다시 바꾸지 않도록)
+     */
+    private JSONList target() {
+      if (_list == null) {
+        throw new IllegalStateException("builder is already built");
+      }
+      return _list;
     }
   }
 }
@@ -0,0 +1,45 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+/**
+ * JSONListDeserializer
+ * <p>
+ * json array를 JSONList로 바로 읽는 deserializer
+ * <p>
+ * JSONList.from과 같이, object가 아닌 원소는 건너뛴다.
+ * <p>
+ * 같은 key 구성을 가지는 row들은 하나의 JSONShape을 공유한다.
+ *
+ * @see JSONNodeDeserializer
+ */
+final class JSONListDeserializer extends JSONNodeDeserializer<JSONList> {
+  private static final long serialVersionUID = 1L;
+
+  JSONListDeserializer() {
+    super(JSONList.class);
+  }
+
+  @Override
+  public JSONList deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (!p.isExpectedStartArrayToken()) {
+      return (JSONList) ctxt.handleUnexpectedToken(JSONList.class, p);
+    }
+    JSONList list = new JSONList();
+    JSONShape shape = null;
+    for (JsonToken t = p.nextToken(); t != JsonToken.END_ARRAY; t = p.nextToken()) {
+      if (t == JsonToken.START_OBJECT) {
+        JSONMap row = readRow(p, ctxt, shape);
+        shape = ShapedJSONMap.shapeOf(row);
+        list.add(row);
+      } else {
+        p.skipChildren();
+      }
+    }
+    return list;
+  }
+}
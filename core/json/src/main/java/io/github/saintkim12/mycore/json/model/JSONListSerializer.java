@@ -0,0 +1,41 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * JSONListSerializer
+ * <p>
+ * JSONList를 json array로 바로 쓰는 serializer
+ *
+ * @see JSONNodeSerializer
+ */
+final class JSONListSerializer extends JSONNodeSerializer<JSONList> {
+  private static final long serialVersionUID = 1L;
+
+  JSONListSerializer() {
+    super(JSONList.class);
+  }
+
+  private JSONListSerializer(JSONListSerializer src, int inlineTypes, JsonInclude.Include contentInclusion, Object contentFilter) {
+    super(src, inlineTypes, contentInclusion, contentFilter);
+  }
+
+  @Override
+  protected JSONListSerializer withContext(int inlineTypes, JsonInclude.Include contentInclusion, Object contentFilter) {
+    return new JSONListSerializer(this, inlineTypes, contentInclusion, contentFilter);
+  }
+
+  @Override
+  public boolean isEmpty(SerializerProvider provider, JSONList value) {
+    return value.isEmpty();
+  }
+
+  @Override
+  public void serialize(JSONList value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    writeList(value, gen, provider);
+  }
+}
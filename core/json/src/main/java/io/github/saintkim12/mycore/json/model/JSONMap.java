@@ -1,17 +1,25 @@
 package io.github.saintkim12.mycore.json.model;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.github.saintkim12.mycore.json.io.MappedFileInputStream;
+import io.github.saintkim12.mycore.json.model.JSONMetrics.CountingOutputStream;
+import io.github.saintkim12.mycore.json.model.JSONMetrics.CountingWriter;
+import io.github.saintkim12.mycore.metrics.Metrics;
+import io.github.saintkim12.mycore.metrics.MetricsRecorder;
 import io.github.saintkim12.mycore.number.helper.NumberHelper;
 import lombok.Builder;
-import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 /**
@@ -23,11 +31,18 @@ import lombok.NoArgsConstructor;
  */
 @Builder(toBuilder = false)
 @NoArgsConstructor
-@EqualsAndHashCode(callSuper = false)
 public class JSONMap extends LinkedHashMap<String, Object> {
   /* member */
 
   /* constructor */
+  /**
+   * 초기 용량을 지정하여 생성
+   * @param initialCapacity 초기 용량
+   */
+  public JSONMap(int initialCapacity) {
+    super(initialCapacity);
+  }
+
   public <T extends Map<String, Object>> JSONMap(T o) {
     this.putAll(o);
   }
@@ -35,13 +50,69 @@ public class JSONMap extends LinkedHashMap<String, Object> {
   /* default method */
   @Override
   public String toString() {
+    long start = Metrics.start();
     try {
-      return ObjectMapperInstance.getInstance().writerWithDefaultPrettyPrinter().writeValueAsString(this);
+      String json = ObjectMapperInstance.getPrettyWriter().writeValueAsString(this);
+      Metrics.record(JSONMetrics.SERIALIZE_MAP, start, json.length());
+      return json;
     } catch (Exception e) {
+      Metrics.recordFailure(JSONMetrics.SERIALIZE_MAP, start);
       return super.toString();
     }
   }
 
+  /**
+   * key와 value가 모두 같은 Map이면 같다고 판단한다.(Map.equals 규약)
+   * <p>
+   * 두 JSONMap 모두 hash가 계산되어 있으면(변경할 수 없는 JSONMap) hash가 다른 경우 값을 비교하지 않고 false를 리턴한다.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (o == this) {
+      return true;
+    }
+    if (!(o instanceof Map)) {
+      return false;
+    }
+    Map<?, ?> m = (Map<?, ?>) o;
+    if (m.size() != this.size()) {
+      return false;
+    }
+    if (m instanceof JSONMap) {
+      int hash = this.cachedHash();
+      int otherHash = ((JSONMap) m).cachedHash();
+      if (hash != 0 && otherHash != 0 && hash != otherHash) {
+        return false;
+      }
+    }
+    return this.equalsEntries(m);
+  }
+
+  /**
+   * entry hash의 합(Map.hashCode 규약)
+   */
+  @Override
+  public int hashCode() {
+    return super.hashCode();
+  }
+
+  /**
+   * 크기가 같은 Map과 entry를 비교
+   * @param m 크기가 같은 Map object
+   * @return 모든 entry가 같은지 여부
+   */
+  boolean equalsEntries(Map<?, ?> m) {
+    return super.equals(m);
+  }
+
+  /**
+   * 계산해 둔 hashCode
+   * @return hashCode 또는 0(계산해 두지 않는 경우)
+   */
+  int cachedHash() {
+    return 0;
+  }
+
   /* original method */
   /**
    * (map).get 사용 시 type cast 과정 생략을 위한 메소드
@@ -116,8 +187,8 @@ public class JSONMap extends LinkedHashMap<String, Object> {
    * @throws ClassCastException
    **/
   public <T> T castGetExceptsNull(Object key, T defaultValue) {
-    Optional<T> optValue = Optional.ofNullable(this.castGet(key));
-    return optValue.orElse(defaultValue);
+    T value = this.castGet(key);
+    return value != null ? value : defaultValue;
   }
 
   /**
@@ -129,8 +200,8 @@ public class JSONMap extends LinkedHashMap<String, Object> {
    * @throws ClassCastException
    **/
   public <T> T tryCastGetExceptsNull(Object key, T defaultValue) {
-    Optional<T> optValue = Optional.ofNullable(this.tryCastGet(key));
-    return optValue.orElse(defaultValue);
+    T value = this.tryCastGet(key);
+    return value != null ? value : defaultValue;
   }
 
   /**
@@ -155,7 +226,8 @@ public class JSONMap extends LinkedHashMap<String, Object> {
    * @throws ClassCastException
    */
   public String castGetAsString(Object key, String defaultValue) {
-    return Optional.ofNullable(this.<Object>castGet(key)).map(Object::toString).orElse(defaultValue);
+    Object value = this.get(key);
+    return value != null ? value.toString() : defaultValue;
   }
 
   /**
@@ -182,7 +254,7 @@ public class JSONMap extends LinkedHashMap<String, Object> {
   public String tryCastGetAsString(Object key, String defaultValue) {
     try {
       String value = castGetAsString(key);
-      return Optional.ofNullable(value).orElse(defaultValue);
+      return value != null ? value : defaultValue;
     } catch (ClassCastException e) {
       return defaultValue;
     }
@@ -219,9 +291,7 @@ public class JSONMap extends LinkedHashMap<String, Object> {
    * @throws ClassCastException
    */
   public <N extends Number> N castGetAsNumber(Object key, N defaultValue, Class<N> _class) {
-    return Optional.ofNullable(this.castGetAsString(key))
-      .map(object -> NumberHelper.getInstance().parse(object, defaultValue, _class))
-      .orElse(defaultValue);
+    return NumberHelper.getInstance().parse(this.get(key), defaultValue, _class);
   }
 
   /**
@@ -244,18 +314,104 @@ public class JSONMap extends LinkedHashMap<String, Object> {
    * 클래스 처리를 위해 Number로부터 파생된 클래스를 넘겨주어야 함
    * <p>
    * 변환 실패 또는 타입 캐스팅 실패 시, 해당 key의 값이 null이거나 값이 없는 경우 defaultValue 리턴
+   * <p>
+   * 변환 실패 시에도 내부적으로 예외가 발생하지 않는다.
+   * @see NumberHelper#tryParse
    * @param key
    * @param defaultValue 해당 key의 값이 없는 경우 리턴할 기본값
    * @param _class 전달받을 클래스(ex> Double.class)
    * @return casted value
    */
   public <N extends Number> N tryCastGetAsNumber(Object key, N defaultValue, Class<N> _class) {
-    try {
-      N value = castGetAsNumber(key, _class);
-      return Optional.ofNullable(value).orElse(defaultValue);
-    } catch (NumberFormatException | ClassCastException e) {
-      return defaultValue;
+    return NumberHelper.getInstance().tryParse(this.get(key), defaultValue, _class);
+  }
+
+  /**
+   * map의 값을 int로 가져오는 메소드
+   * <p>
+   * 값이 Number인 경우 바로 변환하고(intValue), 문자열인 경우 파싱한다.(boxing, BigDecimal 생성 없음)
+   * <p>
+   * 값이 없거나 null, 또는 변환할 수 없는 경우 defaultValue 리턴
+   * @see NumberHelper#parseInt(CharSequence, int)
+   * @param key
+   * @param defaultValue 변환할 수 없는 경우 리턴할 기본값
+   * @return int value or default value
+   */
+  public int getInt(Object key, int defaultValue) {
+    Object value = this.get(key);
+    if (value instanceof Number) {
+      return ((Number) value).intValue();
+    } else if (value instanceof CharSequence) {
+      return NumberHelper.getInstance().parseInt((CharSequence) value, defaultValue);
+    }
+    return defaultValue;
+  }
+
+  /**
+   * map의 값을 long으로 가져오는 메소드
+   * <p>
+   * 값이 Number인 경우 바로 변환하고(longValue), 문자열인 경우 파싱한다.(boxing, BigDecimal 생성 없음)
+   * <p>
+   * 값이 없거나 null, 또는 변환할 수 없는 경우 defaultValue 리턴
+   * @see NumberHelper#parseLong(CharSequence, long)
+   * @param key
+   * @param defaultValue 변환할 수 없는 경우 리턴할 기본값
+   * @return long value or default value
+   */
+  public long getLong(Object key, long defaultValue) {
+    Object value = this.get(key);
+    if (value instanceof Number) {
+      return ((Number) value).longValue();
+    } else if (value instanceof CharSequence) {
+      return NumberHelper.getInstance().parseLong((CharSequence) value, defaultValue);
+    }
+    return defaultValue;
+  }
+
+  /**
+   * map의 값을 double로 가져오는 메소드
+   * <p>
+   * 값이 Number인 경우 바로 변환하고(doubleValue), 문자열인 경우 파싱한다.(boxing, BigDecimal 생성 없음)
+   * <p>
+   * 값이 없거나 null, 또는 변환할 수 없는 경우 defaultValue 리턴
+   * @see NumberHelper#parseDouble(CharSequence, double)
+   * @param key
+   * @param defaultValue 변환할 수 없는 경우 리턴할 기본값
+   * @return double value or default value
+   */
+  public double getDouble(Object key, double defaultValue) {
+    Object value = this.get(key);
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    } else if (value instanceof CharSequence) {
+      return NumberHelper.getInstance().parseDouble((CharSequence) value, defaultValue);
+    }
+    return defaultValue;
+  }
+
+  /**
+   * map의 값을 boolean으로 가져오는 메소드
+   * <p>
+   * 값이 Boolean인 경우 그대로, 문자열 "true", "false"(대소문자 무시)인 경우 변환한다.
+   * <p>
+   * 값이 없거나 null, 또는 변환할 수 없는 경우 defaultValue 리턴
+   * @param key
+   * @param defaultValue 변환할 수 없는 경우 리턴할 기본값
+   * @return boolean value or default value
+   */
+  public boolean getBoolean(Object key, boolean defaultValue) {
+    Object value = this.get(key);
+    if (value instanceof Boolean) {
+      return (Boolean) value;
+    } else if (value instanceof String) {
+      String s = (String) value;
+      if ("true".equalsIgnoreCase(s)) {
+        return true;
+      } else if ("false".equalsIgnoreCase(s)) {
+        return false;
+      }
     }
+    return defaultValue;
   }
 
   /**
@@ -281,6 +437,92 @@ public class JSONMap extends LinkedHashMap<String, Object> {
     return map;
   }
 
+  /**
+   * 변경할 수 없는(immutable) JSONMap으로 복사하여 리턴
+   * <p>
+   * key 배열과 value 배열에 나누어 담으므로 LinkedHashMap보다 메모리를 적게 사용한다.(entry 객체 없음)
+   * 순회 순서와 castGet 계열 메소드는 그대로 사용할 수 있으며, 값을 변경하면 UnsupportedOperationException이 발생한다.
+   * <p>
+   * 중첩된 JSONMap, JSONList, List도 함께 변경할 수 없게 만든다.
+   * 이미 변경할 수 없는 JSONMap인 경우 자기 자신을 리턴한다.
+   * @return immutable JSONMap object
+   */
+  public JSONMap freeze() {
+    return FrozenJSONMap.copyOf(this);
+  }
+
+  /**
+   * 변경할 수 없는(immutable) JSONMap인지 확인
+   * @see #freeze()
+   * @return immutable 여부
+   */
+  public boolean isFrozen() {
+    return false;
+  }
+
+  /**
+   * JSONMap을 json으로 OutputStream에 출력(UTF-8)
+   * <p>
+   * 중간 String 객체를 만들지 않으며, 출력 후 out을 닫지 않는다.
+   * @param out OutputStream
+   * @throws IOException
+   */
+  public void writeTo(OutputStream out) throws IOException {
+    if (!Metrics.isEnabled()) {
+      ObjectMapperInstance.getWriter().writeValue(out, this);
+      return;
+    }
+    long start = Metrics.start();
+    CountingOutputStream counting = new CountingOutputStream(out);
+    try {
+      ObjectMapperInstance.getWriter().writeValue(counting, this);
+    } catch (IOException | RuntimeException e) {
+      Metrics.recordFailure(JSONMetrics.SERIALIZE_MAP, start);
+      throw e;
+    }
+    Metrics.record(JSONMetrics.SERIALIZE_MAP, start, counting.getCount());
+  }
+
+  /**
+   * JSONMap을 json으로 Writer에 출력
+   * <p>
+   * 중간 String 객체를 만들지 않으며, 출력 후 writer를 닫지 않는다.
+   * @param writer Writer
+   * @throws IOException
+   */
+  public void writeTo(Writer writer) throws IOException {
+    if (!Metrics.isEnabled()) {
+      ObjectMapperInstance.getWriter().writeValue(writer, this);
+      return;
+    }
+    long start = Metrics.start();
+    CountingWriter counting = new CountingWriter(writer);
+    try {
+      ObjectMapperInstance.getWriter().writeValue(counting, this);
+    } catch (IOException | RuntimeException e) {
+      Metrics.recordFailure(JSONMetrics.SERIALIZE_MAP, start);
+      throw e;
+    }
+    Metrics.record(JSONMetrics.SERIALIZE_MAP, start, counting.getCount());
+  }
+
+  /**
+   * JSONMap을 json(UTF-8) byte 배열로 변환하여 리턴
+   * @return json bytes
+   * @throws JsonProcessingException
+   */
+  public byte[] toJsonBytes() throws JsonProcessingException {
+    long start = Metrics.start();
+    try {
+      byte[] json = ObjectMapperInstance.getWriter().writeValueAsBytes(this);
+      Metrics.record(JSONMetrics.SERIALIZE_MAP, start, json.length);
+      return json;
+    } catch (JsonProcessingException | RuntimeException e) {
+      Metrics.recordFailure(JSONMetrics.SERIALIZE_MAP, start);
+      throw e;
+    }
+  }
+
   /* static method */
   /**
    * Map(or not) 객체를 JSONMap으로 변환
@@ -288,8 +530,15 @@ public class JSONMap extends LinkedHashMap<String, Object> {
    * @return JSONMap object
    */
   public static JSONMap from(Object object) {
-    JSONMap resultMap = ObjectInstance.getInstance().createJsonMapFromObject.apply(object);
-    return resultMap;
+    long start = Metrics.start();
+    try {
+      JSONMap resultMap = ObjectInstance.getInstance().createJsonMapFromObject(object);
+      Metrics.record(JSONMetrics.CONVERT_MAP, start);
+      return resultMap;
+    } catch (RuntimeException e) {
+      Metrics.recordFailure(JSONMetrics.CONVERT_MAP, start);
+      throw e;
+    }
   }
 
   /**
@@ -312,6 +561,19 @@ public class JSONMap extends LinkedHashMap<String, Object> {
     return new JSONMap(map);
   }
 
+  /**
+   * Map 객체를 변경할 수 없는(immutable) JSONMap으로 변환
+   * @see #freeze()
+   * @param map map object
+   * @return immutable JSONMap object
+   */
+  public static JSONMap immutableOf(Map<?, ?> map) {
+    if (map instanceof JSONMap) {
+      return ((JSONMap) map).freeze();
+    }
+    return from((Object) map).freeze();
+  }
+
   /**
    * json String을 JSONMap으로 변환
    * <p>
@@ -340,8 +602,30 @@ public class JSONMap extends LinkedHashMap<String, Object> {
    * @throws JsonProcessingException
    */
   public static JSONMap fromJsonString(String jsonString, ObjectMapper mapper) throws JsonProcessingException {
-    ObjectMapper mpr = Optional.ofNullable(mapper).orElseGet(ObjectMapperInstance::getInstance);
-    return JSONMap.from(mpr.readValue(jsonString, LinkedHashMap.class));
+    long start = Metrics.start();
+    try {
+      JSONMap value = readJsonString(jsonString, mapper);
+      Metrics.record(JSONMetrics.PARSE_MAP, start, jsonString.length());
+      return value;
+    } catch (JsonProcessingException | RuntimeException e) {
+      Metrics.recordFailure(JSONMetrics.PARSE_MAP, start);
+      throw e;
+    }
+  }
+
+  /**
+   * json String을 JSONMap으로 변환(fromJsonString의 측정 제외 구현)
+   */
+  private static JSONMap readJsonString(String jsonString, ObjectMapper mapper) throws JsonProcessingException {
+    JSONMap value;
+    if (mapper == null) {
+      value = ObjectMapperInstance.getMapReader().readValue(jsonString);
+    } else if (JSONModule.isRegistered(mapper)) {
+      value = mapper.readValue(jsonString, JSONMap.class);
+    } else {
+      return JSONMap.from(mapper.readValue(jsonString, LinkedHashMap.class));
+    }
+    return value == null ? new JSONMap() : value;
   }
 
   /**
@@ -381,6 +665,32 @@ public class JSONMap extends LinkedHashMap<String, Object> {
     }
   }
 
+  /**
+   * json 파일을 JSONMap으로 변환
+   * <p>
+   * 파일을 memory-mapping하여 읽으므로, 파일 내용을 String 등으로 heap에 복사하지 않는다.(2GB가 넘는 파일은 나누어 mapping)
+   * <p>
+   * 기본 제공하는 jackson json ObjectMapper을 사용함
+   * <p>
+   * 파싱 실패 시 에러 발생
+   * @see MappedFileInputStream
+   * @param path json 파일 경로
+   * @return JSONMap object
+   * @throws IOException
+   */
+  public static JSONMap fromPath(Path path) throws IOException {
+    long start = Metrics.start();
+    try (InputStream in = new MappedFileInputStream(path)) {
+      JSONMap value = ObjectMapperInstance.getMapReader().readValue(in);
+      long size = Metrics.isEnabled() ? Files.size(path) : MetricsRecorder.UNKNOWN_BYTES;
+      Metrics.record(JSONMetrics.PARSE_MAP, start, size);
+      return value == null ? new JSONMap() : value;
+    } catch (IOException | RuntimeException e) {
+      Metrics.recordFailure(JSONMetrics.PARSE_MAP, start);
+      throw e;
+    }
+  }
+
   /**
    * k, v 1쌍으로 생성된 객체 생성
    * @param k1
@@ -454,20 +764,51 @@ public class JSONMap extends LinkedHashMap<String, Object> {
   }
 
   /* builder */
+  /**
+   * builder 객체 생성
+   * @return JSONMapBuilder
+   */
+  public static JSONMapBuilder builder() {
+    return new JSONMapBuilder();
+  }
+
+  /**
+   * 예상 크기를 지정하여 builder 객체 생성
+   * @param expectedSize 예상 크기(entry 개수)
+   * @return JSONMapBuilder
+   */
+  public static JSONMapBuilder builder(int expectedSize) {
+    return new JSONMapBuilder(expectedSize);
+  }
+
   /**
    * 현재 JSONMap object를 기반으로 builder 객체 생성(builder 객체로 변환)
    * @return JSONMapBuilder
    */
   public JSONMapBuilder toBuilder() {
-    return JSONMap.builder().from(this);
+    return JSONMap.builder(this.size()).from(this);
   }
 
   /**
    * Builder class
+   * <p>
+   * put 시점에 값을 변환하여 JSONMap에 바로 담고, build 시 담아둔 JSONMap을 복사하지 않고 그대로 넘겨준다.
+   * <p>
+   * 넘겨준 JSONMap과 상태를 공유하지 않도록, build 이후에는 builder를 다시 사용할 수 없다.
+   * (put, remove, build 등 호출 시 IllegalStateException 발생)
    */
   public static class JSONMapBuilder {
-    // Entry(key, value 1쌍)들을 순서대로 담기 위해 List 사용
-    private LinkedList<Entry<String, Object>> _stack = new LinkedList<>();
+    // build 결과가 될 JSONMap(key 순서 유지, 같은 key는 마지막 값으로 덮어씀, build 이후 null)
+    private JSONMap _map;
+
+    JSONMapBuilder() {
+      _map = new JSONMap();
+    }
+
+    JSONMapBuilder(int expectedSize) {
+      // 예상 크기만큼 담아도 resize 되지 않도록 load factor(0.75)를 고려
+      _map = new JSONMap(Math.max(expectedSize, 0) * 4 / 3 + 1);
+    }
 
     /* aliases */
     /**
@@ -495,38 +836,62 @@ public class JSONMap extends LinkedHashMap<String, Object> {
      * @return JSONMapBuilder
      */
     public JSONMapBuilder putAll(Object object) {
-      ObjectInstance.getInstance().streamEntryFromObject.apply(object).forEach(_stack::add);
+      if (object instanceof Map) {
+        ObjectInstance.getInstance().collectToJsonMap((Map<?, ?>) object, target());
+      }
       return this;
     }
 
     /**
      * Entry를 구성하는 key, value 한 쌍을 담기 위해 사용
+     * <p>
+     * key가 null이면 담지 않는다.
      * @param key
      * @param value
      * @return JSONMapBuilder
      */
     public JSONMapBuilder put(String key, Object value) {
-      _stack.add(new SimpleEntry<>(key, value));
+      if (key != null) {
+        target().put(key, ObjectInstance.getInstance().rewrapValue(value));
+      }
       return this;
     }
 
     /**
-     * Entry list에서 key에 해당하는 모든 Entry 삭제
+     * key에 해당하는 Entry 삭제
      * @param key
      * @return JSONMapBuilder
      */
     public JSONMapBuilder remove(String key) {
-      _stack.removeIf(e -> e.getKey().equals(key));
+      target().remove(key);
       return this;
     }
 
     /* build method */
     /**
-     * Entry list를 기반으로 JSONMap 생성
+     * 담아둔 Entry로 JSONMap 생성
+     * <p>
+     * 값은 담을 때 이미 변환되었으므로 다시 변환하지 않는다.
+     * 이후에는 builder를 사용할 수 없다.
      * @return JSONMap
+     * @throws IllegalStateException 이미 build한 경우
      */
     public JSONMap build() {
-      return ObjectInstance.getInstance().createJsonMapFromCollection.apply(_stack);
+      JSONMap map = target();
+      _map = null;
+      return map;
+    }
+
+    /**
+     * 값을 담을 JSONMap
+     * @return JSONMap
+     * @throws IllegalStateException 이미 build한 경우(넘겨준 JSONMap을 다시 바꾸지 않도록)
+     */
+    private JSONMap target() {
+      if (_map == null) {
+        throw new IllegalStateException("builder is already built");
+      }
+      return _map;
     }
   }
 }
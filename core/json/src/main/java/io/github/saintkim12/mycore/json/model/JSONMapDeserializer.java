@@ -0,0 +1,34 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+/**
+ * JSONMapDeserializer
+ * <p>
+ * json object를 JSONMap으로 바로 읽는 deserializer
+ *
+ * @see JSONNodeDeserializer
+ */
+final class JSONMapDeserializer extends JSONNodeDeserializer<JSONMap> {
+  private static final long serialVersionUID = 1L;
+
+  JSONMapDeserializer() {
+    super(JSONMap.class);
+  }
+
+  @Override
+  public JSONMap deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+    if (p.isExpectedStartObjectToken()) {
+      return readMap(p, ctxt, p.nextFieldName());
+    } else if (p.hasToken(JsonToken.FIELD_NAME)) {
+      return readMap(p, ctxt, p.getCurrentName());
+    } else if (p.hasToken(JsonToken.END_OBJECT)) {
+      return new JSONMap();
+    }
+    return (JSONMap) ctxt.handleUnexpectedToken(JSONMap.class, p);
+  }
+}
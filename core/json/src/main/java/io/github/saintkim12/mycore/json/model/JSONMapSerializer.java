@@ -0,0 +1,41 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * JSONMapSerializer
+ * <p>
+ * JSONMap을 json object로 바로 쓰는 serializer
+ *
+ * @see JSONNodeSerializer
+ */
+final class JSONMapSerializer extends JSONNodeSerializer<JSONMap> {
+  private static final long serialVersionUID = 1L;
+
+  JSONMapSerializer() {
+    super(JSONMap.class);
+  }
+
+  private JSONMapSerializer(JSONMapSerializer src, int inlineTypes, JsonInclude.Include contentInclusion, Object contentFilter) {
+    super(src, inlineTypes, contentInclusion, contentFilter);
+  }
+
+  @Override
+  protected JSONMapSerializer withContext(int inlineTypes, JsonInclude.Include contentInclusion, Object contentFilter) {
+    return new JSONMapSerializer(this, inlineTypes, contentInclusion, contentFilter);
+  }
+
+  @Override
+  public boolean isEmpty(SerializerProvider provider, JSONMap value) {
+    return value.isEmpty();
+  }
+
+  @Override
+  public void serialize(JSONMap value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    writeMap(value, gen, provider);
+  }
+}
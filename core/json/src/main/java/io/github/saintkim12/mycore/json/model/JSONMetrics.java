@@ -0,0 +1,102 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.io.FilterOutputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * JSONMetrics
+ * <p>
+ * JSONMap, JSONList에서 {@link io.github.saintkim12.mycore.metrics.Metrics}로 기록하는 연산 이름
+ * <ul>
+ * <li>json.parse.*: fromJsonString, fromPath(bytes: 문자 수 또는 파일 크기)</li>
+ * <li>json.convert.*: from(Map/List 객체를 JSONMap, JSONList로 변환, bytes: UNKNOWN_BYTES)</li>
+ * <li>json.serialize.*: toString, toJsonBytes, writeTo(bytes: String, Writer인 경우 문자 수, 그 외 byte 수)</li>
+ * </ul>
+ */
+final class JSONMetrics {
+  static final String PARSE_MAP = "json.parse.map";
+  static final String PARSE_LIST = "json.parse.list";
+  static final String CONVERT_MAP = "json.convert.map";
+  static final String CONVERT_LIST = "json.convert.list";
+  static final String SERIALIZE_MAP = "json.serialize.map";
+  static final String SERIALIZE_LIST = "json.serialize.list";
+
+  private JSONMetrics() {
+  }
+
+  /**
+   * 출력한 byte 수를 세는 OutputStream(writeTo 측정용, close하지 않음)
+   */
+  static final class CountingOutputStream extends FilterOutputStream {
+    private long count;
+
+    CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      // FilterOutputStream의 기본 구현은 byte 하나씩 출력하므로 그대로 전달
+      out.write(b, off, len);
+      count += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+      // 호출한 쪽의 OutputStream은 닫지 않음
+      flush();
+    }
+
+    long getCount() {
+      return count;
+    }
+  }
+
+  /**
+   * 출력한 문자(char) 수를 세는 Writer(writeTo 측정용, close하지 않음)
+   */
+  static final class CountingWriter extends FilterWriter {
+    private long count;
+
+    CountingWriter(Writer out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+      out.write(c);
+      count++;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+      out.write(cbuf, off, len);
+      count += len;
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+      out.write(str, off, len);
+      count += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+      // 호출한 쪽의 Writer는 닫지 않음
+      flush();
+    }
+
+    long getCount() {
+      return count;
+    }
+  }
+}
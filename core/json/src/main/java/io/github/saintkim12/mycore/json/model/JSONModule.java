@@ -0,0 +1,42 @@
+package io.github.saintkim12.mycore.json.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * JSONModule
+ * <p>
+ * JSONMap, JSONList를 jackson에서 바로 읽고 쓰기 위한 Module
+ * <p>
+ * ObjectMapperInstance의 ObjectMapper에는 자동으로 등록된다.
+ * 직접 만든 ObjectMapper에서 사용하려면 다음과 같이 등록한다.
+ *
+ * <pre>
+ * ObjectMapper mapper = new ObjectMapper().registerModule(new JSONModule());
+ * JSONMap map = mapper.readValue(jsonString, JSONMap.class);
+ * </pre>
+ *
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class JSONModule extends SimpleModule {
+  private static final long serialVersionUID = 1L;
+
+  public JSONModule() {
+    super(JSONModule.class.getSimpleName());
+    addDeserializer(JSONMap.class, new JSONMapDeserializer());
+    addDeserializer(JSONList.class, new JSONListDeserializer());
+    addSerializer(JSONMap.class, new JSONMapSerializer());
+    addSerializer(JSONList.class, new JSONListSerializer());
+  }
+
+  /**
+   * ObjectMapper에 JSONModule이 등록되어 있는지 확인
+   * @param mapper jackson ObjectMapper
+   * @return 등록 여부
+   */
+  public static boolean isRegistered(ObjectMapper mapper) {
+    return mapper.getRegisteredModuleIds().contains(JSONModule.class.getName());
+  }
+}
@@ -0,0 +1,187 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * JSONNodeDeserializer
+ * <p>
+ * JsonParser의 token을 한 번만 읽으면서 JSONMap, JSONList를 바로 만드는 deserializer의 공통 부분
+ * <p>
+ * LinkedHashMap 등으로 파싱한 뒤 ObjectInstance로 다시 변환하는 것과 같은 결과를 만든다.
+ * <ul>
+ * <li>object -> JSONMap</li>
+ * <li>비어있지 않고 모든 원소가 object인 array -> JSONList</li>
+ * <li>그 외의 array -> List(ArrayList), 원소 중 object는 JSONMap으로 변환</li>
+ * </ul>
+ * scalar 값은 jackson의 기본(untyped) deserializer와 같은 타입으로 읽는다.
+ * <p>
+ * JSONList의 row들은 앞 row의 key 구성(JSONShape)을 공유하는 {@link ShapedJSONMap}으로 읽는다.
+ *
+ * @see JSONModule
+ */
+abstract class JSONNodeDeserializer<T> extends StdDeserializer<T> {
+  private static final long serialVersionUID = 1L;
+
+  protected JSONNodeDeserializer(Class<T> vc) {
+    super(vc);
+  }
+
+  @Override
+  public boolean isCachable() {
+    return true;
+  }
+
+  /**
+   * object의 field들을 읽어 JSONMap으로 리턴
+   * <p>
+   * parser는 첫번째 FIELD_NAME(또는 END_OBJECT)에 위치해 있어야 하며, 첫번째 key를 함께 넘긴다.
+   * @param p parser
+   * @param ctxt context
+   * @param firstKey 첫번째 key(빈 object면 null)
+   * @return JSONMap object
+   * @throws IOException
+   */
+  protected JSONMap readMap(JsonParser p, DeserializationContext ctxt, String firstKey) throws IOException {
+    JSONMap map = new JSONMap();
+    for (String key = firstKey; key != null; key = p.nextFieldName()) {
+      map.put(key, readValue(p, ctxt, p.nextToken()));
+    }
+    return map;
+  }
+
+  /**
+   * JSONList의 row(object)를 읽어 리턴
+   * <p>
+   * 앞 row와 key 구성(이름, 순서)이 같으면 그 JSONShape을 공유하고 값 배열만 만든다.
+   * key 구성이 다르면 새 JSONShape을 만들고, 중복 key가 있으면 일반 JSONMap으로 읽는다.
+   * @param p parser(START_OBJECT에 위치)
+   * @param ctxt context
+   * @param shape 앞 row의 JSONShape(없으면 null)
+   * @return JSONMap object
+   * @throws IOException
+   * @see ShapedJSONMap#shapeOf(JSONMap)
+   */
+  protected JSONMap readRow(JsonParser p, DeserializationContext ctxt, JSONShape shape) throws IOException {
+    int size = shape == null ? 0 : shape.size();
+    Object[] values = new Object[size];
+    int slot = 0;
+    String key = p.nextFieldName();
+    for (; key != null && slot < size; key = p.nextFieldName(), slot++) {
+      String expected = shape.keyAt(slot);
+      // jackson이 field name을 intern하므로 대부분 == 비교로 끝남
+      if (key != expected && !key.equals(expected)) {
+        break;
+      }
+      values[slot] = readValue(p, ctxt, p.nextToken());
+    }
+    if (key == null && slot == size) {
+      // 앞 row가 없는(첫 row 또는 중복 key로 일반 JSONMap인) 빈 object는 EMPTY를 사용
+      return new ShapedJSONMap(shape == null ? JSONShape.EMPTY : shape, values);
+    }
+    // key 구성이 다른 경우: 앞부분을 옮겨 담고 나머지를 이어서 읽음
+    List<String> keys = new ArrayList<>(Math.max(size, 8));
+    List<Object> rest = new ArrayList<>(Math.max(size, 8));
+    for (int i = 0; i < slot; i++) {
+      keys.add(shape.keyAt(i));
+      rest.add(values[i]);
+    }
+    for (; key != null; key = p.nextFieldName()) {
+      keys.add(key);
+      rest.add(readValue(p, ctxt, p.nextToken()));
+    }
+    JSONShape newShape = new JSONShape(keys.toArray(new String[0]));
+    for (int i = 0; i < keys.size(); i++) {
+      if (newShape.indexOf(keys.get(i)) != i) {
+        // 중복 key: 마지막 값을 사용하도록 일반 JSONMap에 담음
+        JSONMap map = new JSONMap();
+        for (int j = 0; j < keys.size(); j++) {
+          map.put(keys.get(j), rest.get(j));
+        }
+        return map;
+      }
+    }
+    return new ShapedJSONMap(newShape, rest.toArray());
+  }
+
+  /**
+   * array의 원소를 읽어 JSONList 또는 List로 리턴
+   * <p>
+   * 모든 원소가 object라고 가정하고 JSONList를 채우다가, object가 아닌 원소를 만나면 List로 옮겨 담는다.
+   * @param p parser(START_ARRAY에 위치)
+   * @param ctxt context
+   * @return JSONList or List object
+   * @throws IOException
+   */
+  protected Object readArray(JsonParser p, DeserializationContext ctxt) throws IOException {
+    JsonToken t = p.nextToken();
+    List<Object> values;
+    if (t == JsonToken.START_OBJECT) {
+      JSONList list = new JSONList();
+      JSONShape shape = null;
+      do {
+        JSONMap row = readRow(p, ctxt, shape);
+        shape = ShapedJSONMap.shapeOf(row);
+        list.add(row);
+        t = p.nextToken();
+      } while (t == JsonToken.START_OBJECT);
+      if (t == JsonToken.END_ARRAY) {
+        return list;
+      }
+      values = new ArrayList<>(list);
+    } else {
+      values = new ArrayList<>();
+    }
+    for (; t != JsonToken.END_ARRAY; t = p.nextToken()) {
+      values.add(readValue(p, ctxt, t));
+    }
+    return values;
+  }
+
+  /**
+   * 현재 token의 값을 읽어 리턴
+   * @param p parser
+   * @param ctxt context
+   * @param t 현재 token
+   * @return value
+   * @throws IOException
+   */
+  protected Object readValue(JsonParser p, DeserializationContext ctxt, JsonToken t) throws IOException {
+    switch (t == null ? JsonTokenId.ID_NO_TOKEN : t.id()) {
+    case JsonTokenId.ID_START_OBJECT:
+      return readMap(p, ctxt, p.nextFieldName());
+    case JsonTokenId.ID_START_ARRAY:
+      return readArray(p, ctxt);
+    case JsonTokenId.ID_STRING:
+      return p.getText();
+    case JsonTokenId.ID_NUMBER_INT:
+      if (ctxt.hasSomeOfFeatures(F_MASK_INT_COERCIONS)) {
+        return _coerceIntegral(p, ctxt);
+      }
+      return p.getNumberValue();
+    case JsonTokenId.ID_NUMBER_FLOAT:
+      if (ctxt.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+        return p.getDecimalValue();
+      }
+      return p.getNumberValue();
+    case JsonTokenId.ID_TRUE:
+      return Boolean.TRUE;
+    case JsonTokenId.ID_FALSE:
+      return Boolean.FALSE;
+    case JsonTokenId.ID_NULL:
+      return null;
+    case JsonTokenId.ID_EMBEDDED_OBJECT:
+      return p.getEmbeddedObject();
+    default:
+      return ctxt.handleUnexpectedToken(Object.class, p);
+    }
+  }
+}
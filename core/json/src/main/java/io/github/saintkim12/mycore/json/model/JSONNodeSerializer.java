@@ -0,0 +1,222 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.BooleanSerializer;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializer;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.ser.std.StringSerializer;
+
+/**
+ * JSONNodeSerializer
+ * <p>
+ * JSONMap, JSONList의 값을 JsonGenerator에 바로 쓰는 serializer의 공통 부분
+ * <p>
+ * 자주 쓰이는 값(String, Number, Boolean)은 ObjectMapper에 등록된 serializer가 Jackson 기본 serializer인 경우에만
+ * serializer를 찾지 않고 바로 쓰며, 그 외의 값은 SerializerProvider에 위임한다.
+ * 어떤 타입을 바로 쓸지와 map entry 값의 포함 조건(JsonInclude content inclusion)은
+ * {@link #createContextual}에서 한 번만 확인하여 serializer 인스턴스에 보관한다.
+ *
+ * @see JSONModule
+ */
+abstract class JSONNodeSerializer<T> extends StdSerializer<T> implements ContextualSerializer {
+  private static final long serialVersionUID = 1L;
+
+  // 바로 쓸 수 있는 타입(bit mask)
+  private static final int INLINE_STRING = 1;
+  private static final int INLINE_INTEGER = 1 << 1;
+  private static final int INLINE_LONG = 1 << 2;
+  private static final int INLINE_DOUBLE = 1 << 3;
+  private static final int INLINE_BOOLEAN = 1 << 4;
+  private static final int INLINE_BIG_DECIMAL = 1 << 5;
+  private static final int INLINE_BIG_INTEGER = 1 << 6;
+
+  /* member */
+  // 바로 쓸 타입(createContextual 전에는 모두 위임)
+  private final int inlineTypes;
+  // map entry 값의 포함 조건
+  private final JsonInclude.Include contentInclusion;
+  // contentInclusion이 CUSTOM인 경우의 filter(equals가 true인 값은 제외)
+  private final Object contentFilter;
+
+  /* constructor */
+  protected JSONNodeSerializer(Class<T> t) {
+    super(t);
+    this.inlineTypes = 0;
+    this.contentInclusion = JsonInclude.Include.ALWAYS;
+    this.contentFilter = null;
+  }
+
+  protected JSONNodeSerializer(JSONNodeSerializer<T> src, int inlineTypes, JsonInclude.Include contentInclusion,
+      Object contentFilter) {
+    super(src);
+    this.inlineTypes = inlineTypes;
+    this.contentInclusion = contentInclusion;
+    this.contentFilter = contentFilter;
+  }
+
+  /**
+   * 설정을 바꾼 serializer 생성
+   */
+  protected abstract JSONNodeSerializer<T> withContext(int inlineTypes, JsonInclude.Include contentInclusion,
+      Object contentFilter);
+
+  /**
+   * provider(ObjectMapper 설정)에 맞추어 바로 쓸 타입과 map entry 값의 포함 조건을 확인
+   * <p>
+   * 만들어진 serializer는 provider의 serializer cache에 보관되므로, 값마다 확인하지 않는다.
+   */
+  @Override
+  public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+      throws JsonMappingException {
+    int inline = 0;
+    inline |= isStandard(provider, String.class, StringSerializer.class) ? INLINE_STRING : 0;
+    inline |= isStandard(provider, Integer.class, NumberSerializers.IntegerSerializer.class) ? INLINE_INTEGER : 0;
+    inline |= isStandard(provider, Long.class, NumberSerializers.LongSerializer.class) ? INLINE_LONG : 0;
+    inline |= isStandard(provider, Double.class, NumberSerializers.DoubleSerializer.class) ? INLINE_DOUBLE : 0;
+    inline |= isStandard(provider, Boolean.class, BooleanSerializer.class) ? INLINE_BOOLEAN : 0;
+    inline |= isStandard(provider, BigDecimal.class, NumberSerializer.class) ? INLINE_BIG_DECIMAL : 0;
+    inline |= isStandard(provider, BigInteger.class, NumberSerializer.class) ? INLINE_BIG_INTEGER : 0;
+    // Map과 같은 기준(MapSerializer)으로 포함 조건 확인
+    JsonInclude.Value include = findIncludeOverrides(provider, property, Map.class);
+    JsonInclude.Include inclusion = include == null ? JsonInclude.Include.USE_DEFAULTS : include.getContentInclusion();
+    if (inclusion == JsonInclude.Include.USE_DEFAULTS) {
+      inclusion = JsonInclude.Include.ALWAYS;
+    }
+    Object filter = inclusion == JsonInclude.Include.CUSTOM
+        ? provider.includeFilterInstance(null, include.getContentFilter())
+        : null;
+    if (inline == inlineTypes && inclusion == contentInclusion && filter == null && contentFilter == null) {
+      return this;
+    }
+    return withContext(inline, inclusion, filter);
+  }
+
+  private static boolean isStandard(SerializerProvider provider, Class<?> type, Class<?> standardClass)
+      throws JsonMappingException {
+    JsonSerializer<?> serializer = provider.findValueSerializer(type, null);
+    return serializer != null && serializer.getClass() == standardClass;
+  }
+
+  /**
+   * map을 json object로 출력
+   * <p>
+   * 포함 조건(ex> NON_NULL)에 맞지 않는 entry는 출력하지 않는다.
+   * @param map JSONMap object
+   * @param gen generator
+   * @param provider provider
+   * @throws IOException
+   */
+  protected void writeMap(Map<String, Object> map, JsonGenerator gen, SerializerProvider provider)
+      throws IOException {
+    if (contentInclusion == JsonInclude.Include.ALWAYS) {
+      gen.writeStartObject(map, map.size());
+    } else {
+      // 제외되는 entry가 있을 수 있으므로 크기를 지정하지 않음
+      gen.writeStartObject(map);
+    }
+    Map<String, Object> entries = provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+        && !map.containsKey(null) ? new TreeMap<>(map) : map;
+    for (Entry<String, Object> e : entries.entrySet()) {
+      Object value = e.getValue();
+      if (contentInclusion != JsonInclude.Include.ALWAYS && isSuppressed(value, provider)) {
+        continue;
+      }
+      if (e.getKey() == null) {
+        provider.findNullKeySerializer(provider.constructType(String.class), null).serialize(null, gen, provider);
+      } else {
+        gen.writeFieldName(e.getKey());
+      }
+      writeValue(value, gen, provider);
+    }
+    gen.writeEndObject();
+  }
+
+  /**
+   * map entry 값이 포함 조건에 맞지 않아 제외되는지 여부(MapSerializer와 같은 기준)
+   * @param value value
+   * @param provider provider
+   * @return 제외 여부
+   * @throws IOException
+   */
+  private boolean isSuppressed(Object value, SerializerProvider provider) throws IOException {
+    switch (contentInclusion) {
+    case NON_NULL:
+    case NON_ABSENT:
+    case NON_DEFAULT:
+      return value == null;
+    case NON_EMPTY:
+      return value == null || provider.findValueSerializer(value.getClass(), null).isEmpty(provider, value);
+    case CUSTOM:
+      if (contentFilter == null) {
+        return value == null;
+      }
+      return value == null ? provider.includeFilterSuppressNulls(contentFilter) : contentFilter.equals(value);
+    default:
+      return false;
+    }
+  }
+
+  /**
+   * list를 json array로 출력
+   * @param list List object
+   * @param gen generator
+   * @param provider provider
+   * @throws IOException
+   */
+  protected void writeList(List<?> list, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    gen.writeStartArray(list, list.size());
+    for (Object value : list) {
+      writeValue(value, gen, provider);
+    }
+    gen.writeEndArray();
+  }
+
+  /**
+   * 값의 타입에 따라 출력
+   * @param value value
+   * @param gen generator
+   * @param provider provider
+   * @throws IOException
+   */
+  protected void writeValue(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    if (value == null) {
+      gen.writeNull();
+    } else if (value instanceof String && (inlineTypes & INLINE_STRING) != 0) {
+      gen.writeString((String) value);
+    } else if (value instanceof JSONMap) {
+      writeMap((JSONMap) value, gen, provider);
+    } else if (value instanceof List) {
+      writeList((List<?>) value, gen, provider);
+    } else if (value instanceof Integer && (inlineTypes & INLINE_INTEGER) != 0) {
+      gen.writeNumber(((Integer) value).intValue());
+    } else if (value instanceof Long && (inlineTypes & INLINE_LONG) != 0) {
+      gen.writeNumber(((Long) value).longValue());
+    } else if (value instanceof Double && (inlineTypes & INLINE_DOUBLE) != 0) {
+      gen.writeNumber(((Double) value).doubleValue());
+    } else if (value instanceof Boolean && (inlineTypes & INLINE_BOOLEAN) != 0) {
+      gen.writeBoolean(((Boolean) value).booleanValue());
+    } else if (value instanceof BigDecimal && (inlineTypes & INLINE_BIG_DECIMAL) != 0) {
+      gen.writeNumber((BigDecimal) value);
+    } else if (value instanceof BigInteger && (inlineTypes & INLINE_BIG_INTEGER) != 0) {
+      gen.writeNumber((BigInteger) value);
+    } else {
+      provider.defaultSerializeValue(value, gen);
+    }
+  }
+}
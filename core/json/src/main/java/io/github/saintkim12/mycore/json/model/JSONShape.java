@@ -0,0 +1,87 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * JSONShape
+ * <p>
+ * key 목록(순서 포함)과 key -> slot(index) 검색을 위한 open addressing hash table
+ * <p>
+ * key마다 Entry 객체를 만들지 않고, 값은 slot 순서대로 배열에 따로 담는다.
+ * 같은 key 구성을 가지는 여러 map이 하나의 JSONShape을 공유할 수 있다.(immutable)
+ */
+final class JSONShape {
+  /**
+   * key가 없는 row(빈 object)가 공유하는 JSONShape
+   */
+  static final JSONShape EMPTY = new JSONShape(new String[0]);
+
+  private final String[] keys;
+  // slot + 1을 담음(0: 빈 칸), 크기는 2의 거듭제곱
+  private final int[] table;
+  private final int mask;
+
+  /**
+   * @param keys key 목록(중복 없음)
+   */
+  JSONShape(String[] keys) {
+    this.keys = keys;
+    int capacity = Integer.highestOneBit(Math.max(keys.length, 1) * 2 - 1) << 1;
+    this.table = new int[capacity];
+    this.mask = capacity - 1;
+    for (int slot = 0; slot < keys.length; slot++) {
+      int i = hash(keys[slot]) & mask;
+      while (table[i] != 0) {
+        i = (i + 1) & mask;
+      }
+      table[i] = slot + 1;
+    }
+  }
+
+  /**
+   * @return key 개수
+   */
+  int size() {
+    return keys.length;
+  }
+
+  /**
+   * @param slot slot(index)
+   * @return slot의 key
+   */
+  String keyAt(int slot) {
+    return keys[slot];
+  }
+
+  /**
+   * key의 slot(index)을 찾아 리턴
+   * @param key key
+   * @return slot 또는 -1(없는 경우)
+   */
+  int indexOf(Object key) {
+    int i = hash(key) & mask;
+    for (int slot = table[i]; slot != 0; slot = table[i]) {
+      String k = keys[slot - 1];
+      if (k == key || (k != null && k.equals(key)) || (k == null && key == null)) {
+        return slot - 1;
+      }
+      i = (i + 1) & mask;
+    }
+    return -1;
+  }
+
+  /**
+   * key 목록과 순서가 같은지 확인
+   * @param other JSONShape
+   * @return 같은 key 구성인지 여부
+   */
+  boolean sameKeys(JSONShape other) {
+    return this == other || Arrays.equals(keys, other.keys);
+  }
+
+  private static int hash(Object key) {
+    int h = Objects.hashCode(key);
+    return h ^ (h >>> 16);
+  }
+}
@@ -1,119 +1,160 @@
 package io.github.saintkim12.mycore.json.model;
 
-import java.util.AbstractMap.SimpleEntry;
-import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
-import java.util.Set;
-import java.util.function.BiConsumer;
-import java.util.function.Consumer;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * ObjectInstance
  * <p>
  * 내부에서 공통적으로 사용할 인스턴스를 싱글톤 패턴으로 정의
  */
-class ObjectInstance {
-  private static ObjectInstance INSTANCE = null;
+final class ObjectInstance {
+  private static final ObjectInstance INSTANCE = new ObjectInstance();
 
   private ObjectInstance() {
   }
 
+  /**
+   * 싱글톤 클래스의 인스턴스를 얻는다.
+   * <p>
+   * 클래스 초기화 시 한 번만 생성되므로 여러 thread에서 동시에 호출해도 같은 인스턴스를 리턴한다.
+   * @return ObjectInstance instance(INSTANCE)
+   */
   public static ObjectInstance getInstance() {
-    if (INSTANCE == null) {
-      INSTANCE = new ObjectInstance();
-    }
     return INSTANCE;
   }
 
   /**
-   * entry의 내부 객체를 확인하고 (변환)다시 감싸 entry로 리턴
+   * 값의 타입을 확인하여 JSONMap, JSONList로 변환(다시 감싸기)하여 리턴
+   * <p>
+   * 이미 변환된 JSONMap, JSONList는 그대로 재사용한다.
+   * <ul>
+   * <li>JSONMap, JSONList -> 그대로</li>
+   * <li>Map -> JSONMap</li>
+   * <li>List -> JSONList(비어있지 않고 모든 원소가 Map인 경우) 또는 List</li>
+   * <li>그 외 -> 그대로</li>
+   * </ul>
+   * @param value value
+   * @return 변환된 value
    */
-  @SuppressWarnings("unchecked")
-  public Function<Entry<?, ?>, Entry<?, ?>> detectAndRewrapEntry = e -> {
-    if (e.getValue() instanceof List) {
-      Optional<List<Object>> optList = Optional.of((List<Object>) e.getValue());
-      Integer listSize = Long.valueOf(optList.map(List::stream).orElseGet(Stream::empty).count()).intValue();
-      Integer mappableCount = Long
-          .valueOf(optList.map(List::stream).orElseGet(Stream::empty).filter(item -> item instanceof Map).count())
-          .intValue();
-      return listSize > 0 && listSize.equals(mappableCount)
-          ? new SimpleEntry<Object, Object>(e.getKey(), JSONList.from(e.getValue()))
-          : new SimpleEntry<Object, Object>(e.getKey(), optList.map(List::stream).orElseGet(Stream::empty)
-              .map(item -> item instanceof Map ? JSONMap.from(item) : item).collect(Collectors.toList()));
-    } else if (e.getValue() instanceof Map) {
-      return new SimpleEntry<Object, Object>(e.getKey(), Optional.of(e.getValue()).map(JSONMap::from).orElseGet(JSONMap::new));
+  public Object rewrapValue(Object value) {
+    if (value instanceof JSONMap || value instanceof JSONList) {
+      return value;
+    } else if (value instanceof Map) {
+      return toJsonMap((Map<?, ?>) value);
+    } else if (value instanceof List) {
+      return rewrapList((List<?>) value);
     } else {
-      return e;
+      return value;
     }
-  };
+  }
+
   /**
-   * object가 Map의 instance이면 변환하고 전달받은 함수(fn)을 수행
-   * @see ObjectInstance#detectAndRewrapEntry
+   * Map을 JSONMap으로 변환
+   * <p>
+   * key가 null인 entry는 제외하며, 값은 {@link #rewrapValue}로 변환한다.
+   * @param map Map object
+   * @return JSONMap object
    */
-  public BiConsumer<Object, Consumer<Entry<?, ?>>> collectFromObject = (object, fn) -> {
-    Optional.ofNullable(object).filter(o -> o instanceof Map).map(o -> (Map<?, ?>) o).map(Map::entrySet)
-        .map(Set::stream).orElseGet(Stream::empty).filter(e -> e.getKey() != null).map(detectAndRewrapEntry)
-        .forEach(fn);
-  };
+  public JSONMap toJsonMap(Map<?, ?> map) {
+    return collectToJsonMap(map, new JSONMap());
+  }
+
   /**
-   * collection 내의 entry의 instance를 변환하고 전달받은 함수(fn)을 수행
-   * @see ObjectInstance#detectAndRewrapEntry
+   * Map의 entry를 변환하여 resultMap에 담는다.
+   * <p>
+   * key가 null인 entry는 제외하며, 값은 {@link #rewrapValue}로 변환한다.
+   * @param map Map object
+   * @param resultMap 담을 JSONMap object
+   * @return resultMap
    */
-  public BiConsumer<Collection<Entry<String, Object>>, Consumer<Entry<?, ?>>> collectFromEntryCollection = (collection,
-      fn) -> {
-    Optional.ofNullable(collection).map(Collection::stream).orElseGet(Stream::empty).filter(o -> o instanceof Entry)
-        .map(o -> (Entry<?, ?>) o).filter(e -> e.getKey() != null).map(detectAndRewrapEntry).forEach(fn);
-  };
+  public JSONMap collectToJsonMap(Map<?, ?> map, JSONMap resultMap) {
+    for (Entry<?, ?> e : map.entrySet()) {
+      if (e.getKey() != null) {
+        resultMap.put(e.getKey().toString(), rewrapValue(e.getValue()));
+      }
+    }
+    return resultMap;
+  }
+
   /**
-   * object로부터 collect를 수행하여 생성된 entry를 stream 형태로 리턴
-   * @see ObjectInstance#collectFromObject
+   * List를 JSONList 또는 List로 변환
+   * <p>
+   * 원소를 한 번씩만 확인한다. 모든 원소가 Map이라고 가정하고 JSONList를 채우다가,
+   * Map이 아닌 원소를 만나면 List로 옮겨 담는다.
+   * @param list List object
+   * @return JSONList(비어있지 않고 모든 원소가 Map인 경우) or List object
    */
-  public Function<Object, Stream<Entry<String, Object>>> streamEntryFromObject = (object) -> {
-    LinkedHashSet<Entry<String, Object>> resultSet = new LinkedHashSet<>();
-    collectFromObject.accept(object,
-        e -> resultSet.add(new SimpleEntry<String, Object>(e.getKey().toString(), e.getValue())));
-    return resultSet.stream();
-  };
+  public Object rewrapList(List<?> list) {
+    JSONList jsonList = null;
+    List<Object> values = null;
+    for (Object item : list) {
+      if (values == null && item instanceof Map) {
+        if (jsonList == null) {
+          jsonList = new JSONList(list.size());
+        }
+        jsonList.add(item instanceof JSONMap ? (JSONMap) item : toJsonMap((Map<?, ?>) item));
+      } else {
+        if (values == null) {
+          values = new ArrayList<>(list.size());
+          if (jsonList != null) {
+            values.addAll(jsonList);
+          }
+        }
+        values.add(rewrapValue(item));
+      }
+    }
+    if (values != null) {
+      return values;
+    }
+    return jsonList != null ? jsonList : new ArrayList<>();
+  }
+
   /**
-   * object로부터 collect를 수행하여 생성된 entry들을 JSONMap 형태로 모아 리턴
-   * @see ObjectInstance#collectFromObject
+   * List의 원소 중 Map만 JSONMap으로 변환하여 JSONList로 모아 리턴
+   * <p>
+   * List가 아닌 경우 빈 JSONList를 리턴한다.
+   * @param object List(or not) object
+   * @return JSONList object
    */
-  public Function<Object, JSONMap> createJsonMapFromObject = (object) -> {
-    JSONMap resultMap = new JSONMap();
-    collectFromObject.accept(object, e -> resultMap.put(e.getKey().toString(), e.getValue()));
-    return resultMap;
-  };
+  public JSONList toJsonList(Object object) {
+    if (!(object instanceof List)) {
+      return new JSONList();
+    }
+    List<?> list = (List<?>) object;
+    return collectToJsonList(list, new JSONList(list.size()));
+  }
 
   /**
-   * collection으로부터 collect를 수행하여 생성된 entry들을 JSONMap 형태로 모아 리턴
-   * @see ObjectInstance#collectFromEntryCollection
+   * List의 원소 중 Map만 JSONMap으로 변환하여 resultList에 담는다.
+   * @param list List object
+   * @param resultList 담을 JSONList object
+   * @return resultList
    */
-  public Function<Collection<Entry<String, Object>>, JSONMap> createJsonMapFromCollection = (collection) -> {
-    JSONMap resultMap = new JSONMap();
-    collectFromEntryCollection.accept(collection, e -> resultMap.put(e.getKey().toString(), e.getValue()));
-    return resultMap;
-  };
+  public JSONList collectToJsonList(List<?> list, JSONList resultList) {
+    for (Object item : list) {
+      if (item instanceof Map) {
+        resultList.add(toJsonMap((Map<?, ?>) item));
+      }
+    }
+    return resultList;
+  }
 
   /**
-   * object로부터 collect를 수행하여 생성된 JSONMap들을 stream 형태로 리턴
+   * object로부터 collect를 수행하여 생성된 entry들을 JSONMap 형태로 모아 리턴
+   * @see ObjectInstance#toJsonMap
    */
-  public Function<Object, Stream<JSONMap>> streamJsonListFromObject = (object) -> {
-    return Optional.ofNullable(object).filter(o -> o instanceof List).map(l -> (List<?>) l).map(List::stream)
-        .orElseGet(Stream::empty).filter(o -> o instanceof Map).map(JSONMap::from);
-  };
+  public JSONMap createJsonMapFromObject(Object object) {
+    return object instanceof Map ? toJsonMap((Map<?, ?>) object) : new JSONMap();
+  }
 
   /**
    * object로부터 collect를 수행하여 생성된 JSONMap들을 JSONList 형태로 리턴
-   * @see ObjectInstance#streamJsonListFromObject
+   * @see ObjectInstance#toJsonList
    */
-  public Function<Object, JSONList> createJsonListFromObject = (object) -> {
-    return streamJsonListFromObject.apply(object).collect(Collectors.toCollection(JSONList::new));
-  };
+  public JSONList createJsonListFromObject(Object object) {
+    return toJsonList(object);
+  }
 }
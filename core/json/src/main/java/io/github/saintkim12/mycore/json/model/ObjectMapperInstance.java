@@ -1,16 +1,124 @@
 package io.github.saintkim12.mycore.json.model;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
-final class ObjectMapperInstance {
-  // private ObjectMapper INSTANCE;
+/**
+ * ObjectMapperInstance
+ * <p>
+ * JSONMap, JSONList에서 공통으로 사용할 jackson ObjectMapper와 ObjectReader, ObjectWriter를 보관하는 registry
+ * <p>
+ * ObjectMapper는 생성 비용(설정, serializer cache 초기화)이 크므로 하나만 만들어 공유한다.
+ * ObjectReader, ObjectWriter는 immutable이며 thread-safe하므로 미리 만들어 두고 재사용한다.
+ * <p>
+ * 등록되는 ObjectMapper에는 {@link JSONModule}이 함께 등록된다.
+ * <p>
+ * 임의로 설정한 ObjectMapper를 사용하려면, 애플리케이션 시작 시 한 번 {@link #register(ObjectMapper)}를 호출한다.
+ *
+ * <pre>
+ * ObjectMapper mapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+ * ObjectMapperInstance.register(mapper);
+ * </pre>
+ *
+ * 등록한 이후에는 해당 ObjectMapper의 설정을 변경하지 않아야 한다.(미리 만들어 둔 reader, writer에 반영되지 않음)
+ *
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class ObjectMapperInstance {
+  private static volatile Registry REGISTRY = new Registry(new ObjectMapper());
 
   private ObjectMapperInstance() {
   }
 
+  /**
+   * 공유 ObjectMapper를 얻는다.
+   * <p>
+   * 공유 객체이므로 설정을 변경하지 않아야 한다. 설정 변경이 필요하면 새 ObjectMapper를 {@link #register(ObjectMapper)}로 등록한다.
+   * @return shared ObjectMapper
+   */
   public static ObjectMapper getInstance() {
-    ObjectMapper INSTANCE = new ObjectMapper();
-    // TODO: 필요한 디폴트 세팅이 있으면 생성
-    return INSTANCE;
+    return REGISTRY.mapper;
+  }
+
+  /**
+   * JSONMap 파싱에 사용할 ObjectReader를 얻는다.
+   * @return cached ObjectReader
+   */
+  public static ObjectReader getMapReader() {
+    return REGISTRY.mapReader;
+  }
+
+  /**
+   * JSONList 파싱에 사용할 ObjectReader를 얻는다.
+   * @return cached ObjectReader
+   */
+  public static ObjectReader getListReader() {
+    return REGISTRY.listReader;
+  }
+
+  /**
+   * 공백 없이(compact) 출력하는 ObjectWriter를 얻는다.
+   * <p>
+   * 출력 대상(OutputStream, Writer)을 출력 후 닫지 않는다.
+   * @return cached ObjectWriter
+   */
+  public static ObjectWriter getWriter() {
+    return REGISTRY.writer;
+  }
+
+  /**
+   * 기본 pretty printer로 출력하는 ObjectWriter를 얻는다.
+   * @return cached ObjectWriter
+   */
+  public static ObjectWriter getPrettyWriter() {
+    return REGISTRY.prettyWriter;
+  }
+
+  /**
+   * 공유 ObjectMapper를 교체한다.
+   * <p>
+   * reader, writer도 함께 다시 만들어지며, 이후의 모든 호출에 적용된다.
+   * <p>
+   * 전달받은 mapper에 {@link JSONModule}을 등록한다.
+   * <p>
+   * 애플리케이션 시작 시 한 번만 호출하는 것을 권장한다.
+   * @param mapper 임의로 설정한 jackson ObjectMapper
+   * @throws IllegalArgumentException mapper가 null인 경우
+   */
+  public static void register(ObjectMapper mapper) {
+    if (mapper == null) {
+      throw new IllegalArgumentException("mapper must not be null");
+    }
+    REGISTRY = new Registry(mapper);
+  }
+
+  /**
+   * 공유 ObjectMapper를 기본값(새 ObjectMapper)으로 되돌린다.
+   */
+  public static void reset() {
+    REGISTRY = new Registry(new ObjectMapper());
+  }
+
+  /**
+   * mapper와 mapper로부터 만든 reader, writer를 한 번에 교체하기 위한 묶음(immutable)
+   */
+  private static final class Registry {
+    private final ObjectMapper mapper;
+    private final ObjectReader mapReader;
+    private final ObjectReader listReader;
+    private final ObjectWriter writer;
+    private final ObjectWriter prettyWriter;
+
+    private Registry(ObjectMapper mapper) {
+      this.mapper = mapper.registerModule(new JSONModule());
+      this.mapReader = mapper.readerFor(JSONMap.class);
+      this.listReader = mapper.readerFor(JSONList.class);
+      this.writer = mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      this.prettyWriter = mapper.writerWithDefaultPrettyPrinter();
+    }
   }
 }
@@ -0,0 +1,298 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * ReadOnlyJSONMap
+ * <p>
+ * LinkedHashMap의 저장소를 쓰지 않고, slot(index) 단위로 key, value를 읽는 읽기 전용 JSONMap
+ * <p>
+ * 하위 클래스는 size, keyAt, valueAt, indexOf만 구현한다.
+ * 값을 변경하는 메소드는 UnsupportedOperationException을 발생시킨다.
+ */
+abstract class ReadOnlyJSONMap extends JSONMap {
+  private static final long serialVersionUID = 1L;
+
+  /* abstract method */
+  @Override
+  public abstract int size();
+
+  /**
+   * @param slot slot(index)
+   * @return slot의 key
+   */
+  abstract String keyAt(int slot);
+
+  /**
+   * @param slot slot(index)
+   * @return slot의 value
+   */
+  abstract Object valueAt(int slot);
+
+  /**
+   * @param key key
+   * @return key의 slot 또는 -1(없는 경우)
+   */
+  abstract int indexOf(Object key);
+
+  /* read method */
+  @Override
+  public boolean isFrozen() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public Object get(Object key) {
+    int slot = indexOf(key);
+    return slot < 0 ? null : valueAt(slot);
+  }
+
+  @Override
+  public Object getOrDefault(Object key, Object defaultValue) {
+    int slot = indexOf(key);
+    return slot < 0 ? defaultValue : valueAt(slot);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    for (int slot = 0, size = size(); slot < size; slot++) {
+      if (Objects.equals(value, valueAt(slot))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 0;
+    for (int slot = 0, size = size(); slot < size; slot++) {
+      hash += Objects.hashCode(keyAt(slot)) ^ Objects.hashCode(valueAt(slot));
+    }
+    return hash;
+  }
+
+  @Override
+  boolean equalsEntries(Map<?, ?> m) {
+    for (int slot = 0, size = size(); slot < size; slot++) {
+      String key = keyAt(slot);
+      Object value = valueAt(slot);
+      if (value == null ? m.get(key) != null || !m.containsKey(key) : !value.equals(m.get(key))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super Object> action) {
+    for (int slot = 0, size = size(); slot < size; slot++) {
+      action.accept(keyAt(slot), valueAt(slot));
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet() {
+    return new AbstractSet<Map.Entry<String, Object>>() {
+      @Override
+      public Iterator<Map.Entry<String, Object>> iterator() {
+        return new SlotIterator<Map.Entry<String, Object>>() {
+          @Override
+          Map.Entry<String, Object> at(int slot) {
+            return new SimpleImmutableEntry<>(keyAt(slot), valueAt(slot));
+          }
+        };
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        if (!(o instanceof Map.Entry)) {
+          return false;
+        }
+        Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+        int slot = indexOf(e.getKey());
+        return slot >= 0 && Objects.equals(valueAt(slot), e.getValue());
+      }
+
+      @Override
+      public int size() {
+        return ReadOnlyJSONMap.this.size();
+      }
+    };
+  }
+
+  @Override
+  public Set<String> keySet() {
+    return new AbstractSet<String>() {
+      @Override
+      public Iterator<String> iterator() {
+        return new SlotIterator<String>() {
+          @Override
+          String at(int slot) {
+            return keyAt(slot);
+          }
+        };
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        return containsKey(o);
+      }
+
+      @Override
+      public int size() {
+        return ReadOnlyJSONMap.this.size();
+      }
+    };
+  }
+
+  @Override
+  public Collection<Object> values() {
+    return new AbstractCollection<Object>() {
+      @Override
+      public Iterator<Object> iterator() {
+        return new SlotIterator<Object>() {
+          @Override
+          Object at(int slot) {
+            return valueAt(slot);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return ReadOnlyJSONMap.this.size();
+      }
+    };
+  }
+
+  /**
+   * 읽기 전용이므로 복사하지 않고 자기 자신을 리턴
+   */
+  @Override
+  public Object clone() {
+    return this;
+  }
+
+  /**
+   * 직렬화 시 일반 JSONMap으로 저장(slot 저장소는 LinkedHashMap 직렬화에 포함되지 않음)
+   */
+  Object writeReplace() {
+    return new JSONMap(this);
+  }
+
+  /* write method(unsupported) */
+  @Override
+  public Object put(String key, Object value) {
+    throw unsupported();
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ? extends Object> m) {
+    throw unsupported();
+  }
+
+  @Override
+  public Object remove(Object key) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    throw unsupported();
+  }
+
+  @Override
+  public void clear() {
+    throw unsupported();
+  }
+
+  @Override
+  public Object putIfAbsent(String key, Object value) {
+    throw unsupported();
+  }
+
+  @Override
+  public boolean replace(String key, Object oldValue, Object newValue) {
+    throw unsupported();
+  }
+
+  @Override
+  public Object replace(String key, Object value) {
+    throw unsupported();
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super String, ? super Object, ? extends Object> function) {
+    throw unsupported();
+  }
+
+  @Override
+  public Object computeIfAbsent(String key, Function<? super String, ? extends Object> mappingFunction) {
+    throw unsupported();
+  }
+
+  @Override
+  public Object computeIfPresent(String key,
+      BiFunction<? super String, ? super Object, ? extends Object> remappingFunction) {
+    throw unsupported();
+  }
+
+  @Override
+  public Object compute(String key, BiFunction<? super String, ? super Object, ? extends Object> remappingFunction) {
+    throw unsupported();
+  }
+
+  @Override
+  public Object merge(String key, Object value,
+      BiFunction<? super Object, ? super Object, ? extends Object> remappingFunction) {
+    throw unsupported();
+  }
+
+  private UnsupportedOperationException unsupported() {
+    return new UnsupportedOperationException("read-only JSONMap");
+  }
+
+  /**
+   * slot 순서대로 순회하는 Iterator
+   */
+  private abstract class SlotIterator<E> implements Iterator<E> {
+    private int slot;
+
+    abstract E at(int slot);
+
+    @Override
+    public boolean hasNext() {
+      return slot < size();
+    }
+
+    @Override
+    public E next() {
+      if (slot >= size()) {
+        throw new NoSuchElementException();
+      }
+      return at(slot++);
+    }
+  }
+}
@@ -0,0 +1,455 @@
+package io.github.saintkim12.mycore.json.model;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * ShapedJSONMap
+ * <p>
+ * key 구성(JSONShape)을 다른 row와 공유하고, 값만 배열로 가지는 JSONMap
+ * <p>
+ * JSONList로 파싱되는 row들은 보통 같은 key를 같은 순서로 가지므로,
+ * key 문자열과 hash table, entry 객체를 row마다 만들지 않고 하나의 JSONShape을 공유한다.
+ * castGet 등의 조회는 JSONShape의 slot 검색 후 배열 접근으로 처리된다.
+ * <p>
+ * 기존 key의 값 변경은 배열에 바로 반영되며,
+ * key를 추가/삭제하는 경우 LinkedHashMap 저장소로 옮긴 뒤(inflate) 일반 JSONMap과 같이 동작한다.
+ *
+ * @see JSONNodeDeserializer
+ */
+final class ShapedJSONMap extends JSONMap {
+  private static final long serialVersionUID = 1L;
+
+  private transient JSONShape shape;
+  // null이면 LinkedHashMap 저장소를 사용(inflated)
+  private transient Object[] values;
+
+  ShapedJSONMap(JSONShape shape, Object[] values) {
+    this.shape = shape;
+    this.values = values;
+  }
+
+  /**
+   * row가 공유 중인 JSONShape을 리턴
+   * @param map JSONMap object
+   * @return JSONShape 또는 null(ShapedJSONMap이 아니거나, LinkedHashMap 저장소로 옮겨진 경우)
+   */
+  static JSONShape shapeOf(JSONMap map) {
+    return map instanceof ShapedJSONMap && ((ShapedJSONMap) map).values != null ? ((ShapedJSONMap) map).shape : null;
+  }
+
+  /**
+   * 값 배열을 LinkedHashMap 저장소로 옮긴다.(key 추가/삭제 전 호출)
+   */
+  private void inflate() {
+    if (values != null) {
+      Object[] vs = values;
+      values = null;
+      for (int slot = 0; slot < vs.length; slot++) {
+        super.put(shape.keyAt(slot), vs[slot]);
+      }
+      shape = null;
+    }
+  }
+
+  /* read method */
+  @Override
+  public int size() {
+    return values != null ? values.length : super.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public Object get(Object key) {
+    if (values == null) {
+      return super.get(key);
+    }
+    int slot = shape.indexOf(key);
+    return slot < 0 ? null : values[slot];
+  }
+
+  @Override
+  public Object getOrDefault(Object key, Object defaultValue) {
+    if (values == null) {
+      return super.getOrDefault(key, defaultValue);
+    }
+    int slot = shape.indexOf(key);
+    return slot < 0 ? defaultValue : values[slot];
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return values != null ? shape.indexOf(key) >= 0 : super.containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    if (values == null) {
+      return super.containsValue(value);
+    }
+    for (Object v : values) {
+      if (Objects.equals(value, v)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    if (values == null) {
+      return super.hashCode();
+    }
+    int hash = 0;
+    for (int slot = 0; slot < values.length; slot++) {
+      hash += Objects.hashCode(shape.keyAt(slot)) ^ Objects.hashCode(values[slot]);
+    }
+    return hash;
+  }
+
+  @Override
+  boolean equalsEntries(Map<?, ?> m) {
+    if (values == null) {
+      return super.equalsEntries(m);
+    }
+    if (m instanceof ShapedJSONMap && ((ShapedJSONMap) m).values != null && shape.sameKeys(((ShapedJSONMap) m).shape)) {
+      // 같은 key 구성이면 slot 순서대로 값만 비교
+      return Arrays.equals(values, ((ShapedJSONMap) m).values);
+    }
+    for (int slot = 0; slot < values.length; slot++) {
+      String key = shape.keyAt(slot);
+      Object value = values[slot];
+      if (value == null ? m.get(key) != null || !m.containsKey(key) : !value.equals(m.get(key))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super Object> action) {
+    if (values == null) {
+      super.forEach(action);
+      return;
+    }
+    Object[] vs = values;
+    for (int slot = 0; slot < vs.length; slot++) {
+      action.accept(shape.keyAt(slot), vs[slot]);
+    }
+  }
+
+  @Override
+  public Set<Map.Entry<String, Object>> entrySet() {
+    if (values == null) {
+      return super.entrySet();
+    }
+    return new AbstractSet<Map.Entry<String, Object>>() {
+      @Override
+      public Iterator<Map.Entry<String, Object>> iterator() {
+        return new SlotIterator<Map.Entry<String, Object>>() {
+          @Override
+          Map.Entry<String, Object> at(JSONShape shape, Object[] vs, int slot) {
+            return new SlotEntry(shape.keyAt(slot), vs[slot]);
+          }
+        };
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        if (!(o instanceof Map.Entry)) {
+          return false;
+        }
+        Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+        return containsKey(e.getKey()) && Objects.equals(get(e.getKey()), e.getValue());
+      }
+
+      @Override
+      public int size() {
+        return ShapedJSONMap.this.size();
+      }
+
+      @Override
+      public void clear() {
+        ShapedJSONMap.this.clear();
+      }
+    };
+  }
+
+  @Override
+  public Set<String> keySet() {
+    if (values == null) {
+      return super.keySet();
+    }
+    return new AbstractSet<String>() {
+      @Override
+      public Iterator<String> iterator() {
+        return new SlotIterator<String>() {
+          @Override
+          String at(JSONShape shape, Object[] vs, int slot) {
+            return shape.keyAt(slot);
+          }
+        };
+      }
+
+      @Override
+      public boolean contains(Object o) {
+        return containsKey(o);
+      }
+
+      @Override
+      public int size() {
+        return ShapedJSONMap.this.size();
+      }
+
+      @Override
+      public void clear() {
+        ShapedJSONMap.this.clear();
+      }
+    };
+  }
+
+  @Override
+  public Collection<Object> values() {
+    if (values == null) {
+      return super.values();
+    }
+    return new AbstractCollection<Object>() {
+      @Override
+      public Iterator<Object> iterator() {
+        return new SlotIterator<Object>() {
+          @Override
+          Object at(JSONShape shape, Object[] vs, int slot) {
+            return vs[slot];
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return ShapedJSONMap.this.size();
+      }
+
+      @Override
+      public void clear() {
+        ShapedJSONMap.this.clear();
+      }
+    };
+  }
+
+  @Override
+  public Object clone() {
+    return values != null ? new ShapedJSONMap(shape, values.clone()) : new JSONMap(this);
+  }
+
+  /* write method */
+  @Override
+  public Object put(String key, Object value) {
+    if (values != null) {
+      int slot = shape.indexOf(key);
+      if (slot >= 0) {
+        Object old = values[slot];
+        values[slot] = value;
+        return old;
+      }
+      inflate();
+    }
+    return super.put(key, value);
+  }
+
+  @Override
+  public Object replace(String key, Object value) {
+    if (values != null) {
+      int slot = shape.indexOf(key);
+      if (slot < 0) {
+        return null;
+      }
+      Object old = values[slot];
+      values[slot] = value;
+      return old;
+    }
+    return super.replace(key, value);
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ? extends Object> m) {
+    inflate();
+    super.putAll(m);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    if (values != null && shape.indexOf(key) < 0) {
+      return null;
+    }
+    inflate();
+    return super.remove(key);
+  }
+
+  @Override
+  public boolean remove(Object key, Object value) {
+    inflate();
+    return super.remove(key, value);
+  }
+
+  @Override
+  public void clear() {
+    inflate();
+    super.clear();
+  }
+
+  @Override
+  public Object putIfAbsent(String key, Object value) {
+    inflate();
+    return super.putIfAbsent(key, value);
+  }
+
+  @Override
+  public boolean replace(String key, Object oldValue, Object newValue) {
+    inflate();
+    return super.replace(key, oldValue, newValue);
+  }
+
+  @Override
+  public void replaceAll(BiFunction<? super String, ? super Object, ? extends Object> function) {
+    if (values == null) {
+      super.replaceAll(function);
+      return;
+    }
+    Object[] vs = values;
+    for (int slot = 0; slot < vs.length; slot++) {
+      vs[slot] = function.apply(shape.keyAt(slot), vs[slot]);
+    }
+  }
+
+  @Override
+  public Object computeIfAbsent(String key, Function<? super String, ? extends Object> mappingFunction) {
+    inflate();
+    return super.computeIfAbsent(key, mappingFunction);
+  }
+
+  @Override
+  public Object computeIfPresent(String key,
+      BiFunction<? super String, ? super Object, ? extends Object> remappingFunction) {
+    inflate();
+    return super.computeIfPresent(key, remappingFunction);
+  }
+
+  @Override
+  public Object compute(String key, BiFunction<? super String, ? super Object, ? extends Object> remappingFunction) {
+    inflate();
+    return super.compute(key, remappingFunction);
+  }
+
+  @Override
+  public Object merge(String key, Object value,
+      BiFunction<? super Object, ? super Object, ? extends Object> remappingFunction) {
+    inflate();
+    return super.merge(key, value, remappingFunction);
+  }
+
+  /**
+   * 직렬화 시 일반 JSONMap으로 저장(값 배열은 LinkedHashMap 직렬화에 포함되지 않음)
+   */
+  private Object writeReplace() {
+    return new JSONMap(this);
+  }
+
+  /**
+   * 값 변경(setValue)을 map에 반영하는 Entry
+   */
+  private final class SlotEntry implements Map.Entry<String, Object> {
+    private final String key;
+    private Object value;
+
+    private SlotEntry(String key, Object value) {
+      this.key = key;
+      this.value = value;
+    }
+
+    @Override
+    public String getKey() {
+      return key;
+    }
+
+    @Override
+    public Object getValue() {
+      return value;
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      this.value = value;
+      return put(key, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+      return Objects.equals(key, e.getKey()) && Objects.equals(value, e.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(key) ^ Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + value;
+    }
+  }
+
+  /**
+   * slot 순서대로 순회하는 Iterator
+   * <p>
+   * 순회 시작 시점의 shape, 값 배열을 기준으로 순회하며, remove 시 LinkedHashMap 저장소로 옮겨진다.
+   */
+  private abstract class SlotIterator<E> implements Iterator<E> {
+    private final JSONShape shape = ShapedJSONMap.this.shape;
+    private final Object[] vs = ShapedJSONMap.this.values;
+    private int slot;
+    private boolean removable;
+
+    abstract E at(JSONShape shape, Object[] vs, int slot);
+
+    @Override
+    public boolean hasNext() {
+      return slot < vs.length;
+    }
+
+    @Override
+    public E next() {
+      if (slot >= vs.length) {
+        throw new NoSuchElementException();
+      }
+      removable = true;
+      return at(shape, vs, slot++);
+    }
+
+    @Override
+    public void remove() {
+      if (!removable) {
+        throw new IllegalStateException();
+      }
+      removable = false;
+      ShapedJSONMap.this.remove(shape.keyAt(slot - 1));
+    }
+  }
+}
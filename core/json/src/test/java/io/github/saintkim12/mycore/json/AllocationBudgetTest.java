@@ -0,0 +1,179 @@
+package io.github.saintkim12.mycore.json;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.saintkim12.mycore.json.model.JSONList;
+import io.github.saintkim12.mycore.json.model.JSONMap;
+
+/**
+ * JSONMap, JSONList 주요 경로의 호출당 할당량(bytes) 상한 확인
+ * <p>
+ * 충분히 반복(JIT 컴파일)한 뒤 현재 thread의 할당량(com.sun.management.ThreadMXBean)을 측정한다.
+ * 할당량 측정을 지원하지 않는 JVM에서는 건너뛴다.
+ * <p>
+ * 상한(budget)은 결과 객체 크기 기준이다.
+ * 객체 크기는 JVM 설정(compressed oops 등)에 따라 다르므로, Integer, Double 객체 하나의 할당량을 먼저 측정하여 사용한다.
+ */
+public class AllocationBudgetTest {
+  private static final int WARMUP = 20_000;
+  private static final int ITERATIONS = 10_000;
+  private static final int ROUNDS = 5;
+
+  // 결과가 제거(dead code)되지 않도록 보관
+  static Object sink;
+  static long sinkLong;
+  // 기준 객체 생성에 사용(cache되지 않는 값)
+  static int intSeed = 12345;
+  static double doubleSeed = 0.25d;
+
+  // 객체 하나의 할당량(bytes)
+  private static long integerBytes;
+  private static long doubleBytes;
+
+  private JSONMap plain;
+  private JSONMap shaped;
+  private JSONMap frozen;
+  private List<JSONMap> rows;
+
+  @Before
+  public void setUp() throws IOException {
+    Assume.assumeTrue(isAllocationMeasurable());
+    if (integerBytes == 0) {
+      integerBytes = bytesPerCall(() -> sink = Integer.valueOf(intSeed));
+      doubleBytes = bytesPerCall(() -> sink = Double.valueOf(doubleSeed));
+    }
+    String json = "{\"id\":123456,\"name\":\"name\",\"score\":12.5,\"zipcode\":\"12345\",\"rate\":\"0.25\",\"active\":true,\"n\":null}";
+    plain = JSONMap.fromJsonString(json);
+    shaped = JSONList.fromJsonString("[" + json + "," + json + "]").get(0);
+    frozen = plain.freeze();
+    rows = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      rows.add(JSONMap.of("id", i));
+    }
+  }
+
+  @Test
+  public void testCastGetAllocation() {
+    for (JSONMap map : new JSONMap[] { plain, shaped, frozen }) {
+      String type = map.getClass().getSimpleName();
+      assertAllocation(type + ".castGet", 0, () -> sink = map.castGet("name"));
+      assertAllocation(type + ".castGet(default)", 0, () -> sink = map.castGet("none", "default"));
+      assertAllocation(type + ".tryCastGet", 0, () -> sink = map.tryCastGet("name"));
+      assertAllocation(type + ".castGetExceptsNull", 0, () -> sink = map.castGetExceptsNull("n", "default"));
+      assertAllocation(type + ".tryCastGetExceptsNull", 0, () -> sink = map.tryCastGetExceptsNull("n", "default"));
+      assertAllocation(type + ".castGetAsString", 0, () -> sink = map.castGetAsString("name"));
+      assertAllocation(type + ".tryCastGetAsString", 0, () -> sink = map.tryCastGetAsString("none", "default"));
+    }
+  }
+
+  @Test
+  public void testCastGetAsNumberAllocation() {
+    for (JSONMap map : new JSONMap[] { plain, shaped, frozen }) {
+      String type = map.getClass().getSimpleName();
+      assertAllocation(type + ".castGetAsNumber(Integer)", 0, () -> sink = map.castGetAsNumber("id", Integer.class));
+      assertAllocation(type + ".castGetAsNumber(Double)", 0, () -> sink = map.castGetAsNumber("score", Double.class));
+      assertAllocation(type + ".castGetAsNumber(String -> Integer)", integerBytes,
+          () -> sink = map.castGetAsNumber("zipcode", Integer.class));
+      assertAllocation(type + ".castGetAsNumber(String -> Double)", doubleBytes,
+          () -> sink = map.castGetAsNumber("rate", Double.class));
+      assertAllocation(type + ".tryCastGetAsNumber(invalid)", 0,
+          () -> sink = map.tryCastGetAsNumber("name", Integer.class));
+    }
+  }
+
+  @Test
+  public void testPrimitiveGetterAllocation() {
+    for (JSONMap map : new JSONMap[] { plain, shaped, frozen }) {
+      String type = map.getClass().getSimpleName();
+      assertAllocation(type + ".getInt", 0, () -> sinkLong += map.getInt("id", -1));
+      assertAllocation(type + ".getInt(String)", 0, () -> sinkLong += map.getInt("zipcode", -1));
+      assertAllocation(type + ".getLong", 0, () -> sinkLong += map.getLong("id", -1));
+      assertAllocation(type + ".getDouble", 0, () -> sinkLong += (long) map.getDouble("score", -1));
+      assertAllocation(type + ".getDouble(String)", 0, () -> sinkLong += (long) map.getDouble("rate", -1));
+      assertAllocation(type + ".getBoolean", 0, () -> sinkLong += map.getBoolean("active", false) ? 1 : 0);
+    }
+  }
+
+  @Test
+  public void testBuilderAllocation() {
+    // builder 경로는 inlining 여부에 따라 iterator 등의 할당이 달라 기준 객체로 구할 수 없으므로,
+    // compressed oops인 경우(32GB 미만 heap의 기본값)에만 측정값 기준으로 확인
+    Assume.assumeTrue(isCompressedOops());
+    // builder + JSONMap(LinkedHashMap, entry 3개)
+    assertAllocation("JSONMap.builder", 288,
+        () -> sink = JSONMap.builder(3).put("id", 1).put("name", "name").put("active", true).build());
+    // row마다 JSONMap으로 복사(entry 1개, row당 약 220 bytes), build는 복사하지 않음
+    assertAllocation("JSONList.builder", 2304, () -> {
+      JSONList.JSONListBuilder builder = JSONList.builder(rows.size());
+      for (JSONMap row : rows) {
+        builder.add(row);
+      }
+      sink = builder.build();
+    });
+  }
+
+  /**
+   * 호출당 할당량이 budget 이하인지 확인
+   * @param name 측정 대상 이름
+   * @param budget 호출당 최대 할당량(bytes)
+   * @param call 측정할 호출
+   */
+  static void assertAllocation(String name, long budget, Runnable call) {
+    long bytes = bytesPerCall(call);
+    assertTrue(name + ": " + bytes + " bytes/call (budget " + budget + ")", bytes <= budget);
+  }
+
+  /**
+   * 반복 호출 후 호출당 평균 할당량(bytes)
+   * <p>
+   * 측정 중 JIT 재컴파일(deoptimization)이 일어나면 그동안 제거되지 않은 임시 객체가 함께 측정되므로,
+   * 여러 번 측정하여 가장 작은 값을 리턴한다.
+   * @param call 측정할 호출
+   * @return 호출당 할당량
+   */
+  static long bytesPerCall(Runnable call) {
+    for (int i = 0; i < WARMUP; i++) {
+      call.run();
+    }
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long id = Thread.currentThread().getId();
+    long min = Long.MAX_VALUE;
+    for (int round = 0; round < ROUNDS; round++) {
+      long before = threads.getThreadAllocatedBytes(id);
+      for (int i = 0; i < ITERATIONS; i++) {
+        call.run();
+      }
+      long after = threads.getThreadAllocatedBytes(id);
+      min = Math.min(min, (after - before) / ITERATIONS);
+    }
+    return min;
+  }
+
+  private static boolean isAllocationMeasurable() {
+    if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+      return false;
+    }
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    return threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+  }
+
+  private static boolean isCompressedOops() {
+    try {
+      com.sun.management.HotSpotDiagnosticMXBean hotspot = ManagementFactory
+          .getPlatformMXBean(com.sun.management.HotSpotDiagnosticMXBean.class);
+      return hotspot != null && Boolean.parseBoolean(hotspot.getVMOption("UseCompressedOops").getValue());
+    } catch (IllegalArgumentException e) {
+      // HotSpot이 아닌 JVM
+      return false;
+    }
+  }
+}
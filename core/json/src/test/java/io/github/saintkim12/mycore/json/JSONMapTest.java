@@ -2,19 +2,49 @@ package io.github.saintkim12.mycore.json;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import io.github.saintkim12.mycore.json.model.JSONColumns;
 import io.github.saintkim12.mycore.json.model.JSONList;
 import io.github.saintkim12.mycore.json.model.JSONMap;
+import io.github.saintkim12.mycore.json.model.JSONModule;
+import io.github.saintkim12.mycore.json.model.ObjectMapperInstance;
+import io.github.saintkim12.mycore.metrics.InMemoryMetricsRecorder;
+import io.github.saintkim12.mycore.metrics.Metrics;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -354,4 +384,443 @@ public class JSONMapTest {
     assertEquals(m1.tryCastGetAsNumber("value", BigInteger.class), BigInteger.valueOf(15));
     assertEquals(m1.tryCastGetAsNumber("nonValue", 0d, Double.class), Double.valueOf(0d));
   }
+
+  @Test
+  public void testObjectMapperInstance() {
+    // 매 호출마다 같은 인스턴스를 공유
+    assertSame(ObjectMapperInstance.getInstance(), ObjectMapperInstance.getInstance());
+    assertSame(ObjectMapperInstance.getWriter(), ObjectMapperInstance.getWriter());
+    try {
+      ObjectMapperInstance.register(new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+      JSONMap m1 = JSONMap.tryParseJsonString("{\"value\":15.1}");
+      assertEquals(new BigDecimal("15.1"), m1.get("value"));
+    } finally {
+      ObjectMapperInstance.reset();
+    }
+    assertEquals(Double.valueOf(15.1), JSONMap.tryParseJsonString("{\"value\":15.1}").get("value"));
+  }
+
+  @Test
+  public void testJSONMapWriteWithRegisteredMapper() throws IOException {
+    JSONMap m1 = JSONMap.fromJsonString(
+        "{\"a\":null,\"id\":9007199254740993,\"name\":\"\",\"list\":[{\"b\":null,\"c\":1}],\"empty\":[]}");
+    try {
+      // 등록한 ObjectMapper의 포함 조건, serializer를 따름(Map, List로 출력한 결과와 같음)
+      ObjectMapper mapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL)
+          .registerModule(new SimpleModule().addSerializer(Long.class, ToStringSerializer.instance));
+      ObjectMapperInstance.register(mapper);
+      String expected = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL)
+          .registerModule(new SimpleModule().addSerializer(Long.class, ToStringSerializer.instance))
+          .writeValueAsString(m1.castToJavaMap());
+      assertEquals("{\"id\":\"9007199254740993\",\"name\":\"\",\"list\":[{\"c\":1}],\"empty\":[]}", expected);
+      assertEquals(expected, new String(m1.toJsonBytes(), StandardCharsets.UTF_8));
+      assertEquals("[{\"c\":1}]", new String(m1.<JSONList>castGet("list").toJsonBytes(), StandardCharsets.UTF_8));
+      // NON_EMPTY: 빈 문자열, 빈 List도 제외
+      ObjectMapperInstance.register(new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY));
+      assertEquals("{\"id\":9007199254740993,\"list\":[{\"c\":1}]}", new String(m1.toJsonBytes(), StandardCharsets.UTF_8));
+    } finally {
+      ObjectMapperInstance.reset();
+    }
+    assertEquals(new ObjectMapper().writeValueAsString(m1.castToJavaMap()), new String(m1.toJsonBytes(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testJSONModule() throws IOException {
+    String strData = "{\"map\":{\"list\":[{\"a\":1},{\"b\":[{\"c\":null}]}]},\"mixed\":[{\"a\":1},2,\"3\"],\"empty\":[]}";
+    JSONMap m1 = JSONMap.fromJsonString(strData);
+    // 중첩된 object, object array도 JSONMap, JSONList로 변환
+    assertTrue(m1.get("map") instanceof JSONMap);
+    assertTrue(m1.<JSONMap>castGet("map").get("list") instanceof JSONList);
+    assertTrue(m1.<JSONMap>castGet("map").<JSONList>castGet("list").get(1).get("b") instanceof JSONList);
+    // object가 아닌 원소가 있으면 List, 원소 중 object는 JSONMap
+    assertEquals(Arrays.asList(JSONMap.of("a", 1), 2, "3"), m1.get("mixed"));
+    assertTrue(m1.<List<Object>>castGet("mixed").get(0) instanceof JSONMap);
+    assertEquals(Arrays.asList(), m1.get("empty"));
+    // JSONModule을 등록한 ObjectMapper
+    ObjectMapper mapper = new ObjectMapper().registerModule(new JSONModule());
+    assertTrue(JSONModule.isRegistered(mapper));
+    assertEquals(m1.toString(), mapper.readValue(strData, JSONMap.class).toString());
+    assertEquals(m1.toString(), JSONMap.fromJsonString(strData, new ObjectMapper()).toString());
+    // object가 아닌 원소는 건너뜀
+    assertEquals(2, JSONList.fromJsonString("[{\"a\":1},2,[3],{\"b\":2}]").size());
+  }
+
+  @Test
+  public void testJSONMapWriteTo() throws IOException {
+    JSONMap m1 = JSONMap.tryParseJsonString(
+        "{\"message\":\"hello\",\"result\":true,\"int\":1,\"long\":12345678901,\"double\":1.5,\"null\":null,\"primitiveList\":[1,2,5],\"list\":[{\"value\":\"a\"},{\"value\":[\"b\"]}]}");
+    // JSONModule 미등록 ObjectMapper(Map, List로 출력)와 같은 결과
+    String expected = new ObjectMapper().writeValueAsString(m1.castToJavaMap());
+    assertEquals(expected, new String(m1.toJsonBytes(), StandardCharsets.UTF_8));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    m1.writeTo(out);
+    assertEquals(expected, new String(out.toByteArray(), StandardCharsets.UTF_8));
+    StringWriter writer = new StringWriter();
+    m1.<JSONList>castGet("list").writeTo(writer);
+    assertEquals(new ObjectMapper().writeValueAsString(m1.<JSONList>castGet("list").castToJavaList()), writer.toString());
+    assertEquals(new ObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(m1.castToJavaMap()), m1.toString());
+  }
+
+  @Test
+  public void testJSONMapFromNestedMap() {
+    JSONMap converted = JSONMap.of("value", "a");
+    Map<String, Object> nested = new LinkedHashMap<>();
+    nested.put("value", "b");
+    Map<String, Object> source = new LinkedHashMap<>();
+    source.put("converted", converted);
+    source.put("map", nested);
+    source.put("list", Arrays.asList(nested, converted));
+    source.put("mixed", Arrays.asList(nested, 1, Arrays.asList(nested)));
+    source.put(null, "null key");
+    JSONMap m1 = JSONMap.from(source);
+    // 이미 변환된 JSONMap은 재사용
+    assertSame(converted, m1.get("converted"));
+    assertTrue(m1.get("map") instanceof JSONMap);
+    assertTrue(m1.get("list") instanceof JSONList);
+    assertSame(converted, m1.<JSONList>castGet("list").get(1));
+    assertTrue(m1.<List<Object>>castGet("mixed").get(0) instanceof JSONMap);
+    assertTrue(m1.<List<List<Object>>>castGet("mixed").get(2).get(0) instanceof JSONMap);
+    // null key는 제외
+    assertEquals(4, m1.size());
+  }
+
+  @Test
+  public void testJSONListDequeMethods() {
+    JSONList l1 = JSONList.builder(3).add(JSONMap.of("id", 1)).add(JSONMap.of("id", 2)).add(JSONMap.of("id", 3)).build();
+    assertTrue(l1 instanceof RandomAccess);
+    assertEquals(Integer.valueOf(1), l1.getFirst().castGet("id"));
+    assertEquals(Integer.valueOf(3), l1.getLast().castGet("id"));
+    l1.addFirst(JSONMap.of("id", 0));
+    assertEquals(Integer.valueOf(0), l1.removeFirst().castGet("id"));
+    assertEquals(Integer.valueOf(3), l1.pollLast().castGet("id"));
+    assertEquals(Integer.valueOf(1), l1.toDeque().peekFirst().castGet("id"));
+    assertEquals(1, JSONList.builder().from(l1).removeFirst().build().size());
+    assertEquals(null, new JSONList().peekFirst());
+  }
+
+  @Test
+  public void testJSONMapFreeze() throws IOException {
+    JSONMap m1 = JSONMap.fromJsonString("{\"id\":1,\"name\":\"a\",\"n\":null,\"child\":{\"v\":\"1.5\"},\"rows\":[{\"k\":1}],\"arr\":[1,2]}");
+    JSONMap f1 = m1.freeze();
+    assertTrue(f1.isFrozen());
+    assertSame(f1, f1.freeze());
+    assertEquals(new ArrayList<>(m1.keySet()), new ArrayList<>(f1.keySet()));
+    assertEquals(Integer.valueOf(1), f1.castGet("id"));
+    assertEquals("a", f1.castGetAsString("name"));
+    assertTrue(f1.containsKey("n"));
+    assertEquals(null, f1.castGet("n", "default"));
+    assertEquals("default", f1.castGetExceptsNull("n", "default"));
+    assertEquals(null, f1.get("none"));
+    assertEquals(Double.valueOf(1.5), f1.<JSONMap>castGet("child").castGetAsNumber("v", Double.class));
+    assertEquals(m1.toString(), f1.toString());
+    assertEquals(m1.castToJavaMap(), f1.castToJavaMap());
+    assertThrows(UnsupportedOperationException.class, () -> f1.put("id", 2));
+    assertThrows(UnsupportedOperationException.class, () -> f1.remove("id"));
+    assertThrows(UnsupportedOperationException.class, () -> f1.computeIfAbsent("x", k -> 1));
+    assertThrows(UnsupportedOperationException.class, () -> f1.entrySet().iterator().next().setValue(2));
+    // 중첩된 값도 변경 불가
+    assertThrows(UnsupportedOperationException.class, () -> f1.<JSONMap>castGet("child").put("v", 2));
+    assertThrows(UnsupportedOperationException.class, () -> f1.<JSONList>castGet("rows").add(new JSONMap()));
+    assertThrows(UnsupportedOperationException.class, () -> f1.<JSONList>castGet("rows").get(0).clear());
+    assertThrows(UnsupportedOperationException.class, () -> f1.<List<Object>>castGet("arr").add(3));
+    // 원본은 변경 가능
+    m1.put("id", 2);
+    assertEquals(Integer.valueOf(1), f1.castGet("id"));
+
+    Map<String, Object> source = new LinkedHashMap<>();
+    for (int i = 0; i < 100; i++) {
+      source.put("key" + i, i);
+    }
+    JSONMap f2 = JSONMap.immutableOf(source);
+    assertEquals(100, f2.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(Integer.valueOf(i), f2.castGet("key" + i));
+    }
+    assertTrue(JSONMap.immutableOf(new LinkedHashMap<>()).isEmpty());
+  }
+
+  @Test
+  public void testJSONListSharedShape() throws IOException {
+    String json = "[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"},{\"name\":\"c\",\"id\":3},{\"id\":4},{\"id\":5,\"id\":6}]";
+    JSONList l1 = JSONList.fromJsonString(json);
+    assertEquals(5, l1.size());
+    assertEquals(new ObjectMapper().readValue(json, List.class), l1.castToJavaList());
+    assertEquals(Arrays.asList("name", "id"), new ArrayList<>(l1.get(2).keySet()));
+    assertEquals(Integer.valueOf(6), l1.get(4).castGet("id"));
+
+    JSONMap row = l1.get(0);
+    assertEquals(Integer.valueOf(1), row.castGet("id"));
+    assertEquals(null, row.get("none"));
+    // 기존 key 값 변경
+    row.put("id", 10);
+    row.entrySet().iterator().next().setValue(11);
+    assertEquals(Integer.valueOf(11), row.castGet("id"));
+    assertEquals(Integer.valueOf(2), l1.get(1).castGet("id"));
+    // key 추가/삭제
+    row.put("extra", true);
+    assertEquals(Arrays.asList("id", "name", "extra"), new ArrayList<>(row.keySet()));
+    row.remove("name");
+    assertEquals(Arrays.asList("id", "extra"), new ArrayList<>(row.keySet()));
+    assertEquals(Arrays.asList("id", "name"), new ArrayList<>(l1.get(1).keySet()));
+    l1.get(1).keySet().removeIf("id"::equals);
+    assertEquals(JSONMap.of("name", "b").castToJavaMap(), l1.get(1).castToJavaMap());
+    assertEquals(JSONMap.of("id", 3, "name", "c").castToJavaMap(), l1.get(2).freeze().castToJavaMap());
+
+    // 앞 row가 없는 빈 object(첫 row, 중복 key row 다음)
+    JSONMap empty = JSONList.fromJsonString("[{}]").get(0);
+    assertTrue(empty.isEmpty());
+    assertEquals(null, empty.get("a"));
+    assertFalse(empty.containsKey("a"));
+    assertEquals(null, empty.remove("a"));
+    empty.put("a", 1);
+    assertEquals(Integer.valueOf(1), empty.castGet("a"));
+    JSONList l2 = JSONList.fromJsonString("[{\"a\":1,\"a\":2},{},{\"b\":3}]");
+    assertEquals(null, l2.get(1).get("a"));
+    assertEquals(null, l2.get(1).replace("a", 1));
+    assertTrue(l2.get(1).isEmpty());
+    assertEquals(Integer.valueOf(3), l2.get(2).castGet("b"));
+    assertTrue(JSONMap.fromJsonString("{\"l\":[{}]}").<JSONList>castGet("l").get(0).isEmpty());
+  }
+
+  @Test
+  public void testJSONColumns() throws IOException {
+    String json = "[{\"id\":1,\"big\":1,\"price\":1.5,\"name\":\"a\"},"
+        + "{\"id\":2,\"big\":10000000000,\"price\":null,\"name\":\"b\"},"
+        + "{\"id\":3,\"big\":3,\"price\":2.5}]";
+    JSONList l1 = JSONList.fromJsonString(json);
+    JSONColumns columns = l1.toColumns();
+    assertEquals(3, columns.size());
+    assertEquals(Arrays.asList("id", "big", "price", "name"), columns.keys());
+    JSONColumns.IntColumn id = columns.intColumn("id");
+    assertArrayEquals(new int[] { 1, 2, 3 }, id.toArray());
+    assertEquals(10000000000L, columns.longColumn("big").getLong(1));
+    JSONColumns.DoubleColumn price = columns.doubleColumn("price");
+    assertTrue(price.isNull(1));
+    assertEquals(4.0, price.getDouble(0) + price.getDouble(2), 0);
+    assertArrayEquals(new double[] { 1.5, -1, 2.5 }, columns.toDoubleArray("price", -1), 0);
+    assertTrue(columns.column("name").isMissing(2));
+    assertThrows(ClassCastException.class, () -> columns.doubleColumn("id"));
+    assertThrows(IllegalArgumentException.class, () -> columns.column("none"));
+    // row view
+    assertEquals(l1.castToJavaList(), columns.toJSONList().castToJavaList());
+    JSONMap row = columns.getRow(2);
+    assertEquals(Arrays.asList("id", "big", "price"), new ArrayList<>(row.keySet()));
+    assertEquals(Integer.valueOf(3), row.castGet("big"));
+    assertEquals(false, row.containsKey("name"));
+    assertEquals(Double.valueOf(2.5), row.castGetAsNumber("price", Double.class));
+    assertThrows(UnsupportedOperationException.class, () -> row.put("id", 1));
+  }
+
+  @Test
+  public void testJSONColumnsMixedNumber() throws IOException {
+    String json = "[{\"price\":10,\"big\":10000000000,\"huge\":9007199254740993},"
+        + "{\"price\":10.5,\"big\":0.5,\"huge\":0.5},"
+        + "{\"price\":null,\"big\":-10000000000,\"huge\":1}]";
+    JSONList l1 = JSONList.fromJsonString(json);
+    JSONColumns columns = l1.toColumns();
+    // Integer와 Double이 섞인 column은 DoubleColumn
+    JSONColumns.DoubleColumn price = columns.doubleColumn("price");
+    assertArrayEquals(new double[] { 10, 10.5, -1 }, columns.toDoubleArray("price", -1), 0);
+    assertTrue(price.isIntegral(0));
+    assertFalse(price.isIntegral(1));
+    // int 범위를 벗어나는 Long과 Double도 DoubleColumn
+    assertArrayEquals(new double[] { 1e10, 0.5, -1e10 }, columns.doubleColumn("big").toArray(), 0);
+    // double로 정확히 표현할 수 없는 Long이 있으면 ObjectColumn
+    assertTrue(columns.column("huge") instanceof JSONColumns.ObjectColumn);
+    // row view는 원래 타입으로 읽음
+    assertEquals(Integer.valueOf(10), columns.getRow(0).get("price"));
+    assertEquals(Double.valueOf(10.5), columns.getRow(1).get("price"));
+    assertEquals(Long.valueOf(-10000000000L), columns.getRow(2).get("big"));
+    assertEquals(Long.valueOf(9007199254740993L), columns.getRow(0).get("huge"));
+    assertEquals(l1, columns.toJSONList());
+  }
+
+  @Test
+  public void testJSONMapPrimitiveGetters() throws IOException {
+    JSONMap m1 = JSONMap.fromJsonString("{\"i\":3,\"l\":10000000000,\"d\":1.5,\"s\":\"42\",\"sd\":\"2.25\",\"b\":true,\"sb\":\"FALSE\",\"x\":\"x\",\"n\":null}");
+    assertEquals(3, m1.getInt("i", -1));
+    assertEquals(10000000000L, m1.getLong("l", -1));
+    assertEquals(1, m1.getInt("d", -1));
+    assertEquals(1.5, m1.getDouble("d", -1), 0);
+    assertEquals(42, m1.getInt("s", -1));
+    assertEquals(2.25, m1.getDouble("sd", -1), 0);
+    assertEquals(2L, m1.getLong("sd", -1));
+    assertEquals(true, m1.getBoolean("b", false));
+    assertEquals(false, m1.getBoolean("sb", true));
+    assertEquals(-1, m1.getInt("x", -1));
+    assertEquals(-1, m1.getInt("n", -1));
+    assertEquals(-1, m1.getInt("none", -1));
+    assertEquals(true, m1.getBoolean("i", true));
+    // castGetAsNumber와 같은 결과
+    for (String key : Arrays.asList("i", "l", "d", "s", "sd")) {
+      assertEquals(m1.castGetAsNumber(key, Integer.class).intValue(), m1.getInt(key, -1));
+      assertEquals(m1.castGetAsNumber(key, Long.class).longValue(), m1.getLong(key, -1));
+      assertEquals(m1.castGetAsNumber(key, Double.class), m1.getDouble(key, -1), 0);
+    }
+  }
+
+  @Test
+  public void testJSONListGetDoubles() throws IOException {
+    JSONList l1 = JSONList.fromJsonString("[{\"v\":1},{\"v\":\"2.5\"},{\"v\":null},{\"w\":1},{\"v\":\"x\"},{\"v\":3.5}]");
+    double[] doubles = new double[l1.size()];
+    assertEquals(3, l1.getDoubles("v", doubles, -1));
+    assertArrayEquals(new double[] { 1, 2.5, -1, -1, -1, 3.5 }, doubles, 0);
+    long[] longs = new long[l1.size()];
+    assertEquals(3, l1.getLongs("v", longs, 0));
+    assertArrayEquals(new long[] { 1, 2, 0, 0, 0, 3 }, longs);
+  }
+
+  @Test
+  public void testJSONMapFromConcurrent() throws Exception {
+    Map<String, Object> nested = new LinkedHashMap<>();
+    nested.put("value", "b");
+    Map<String, Object> source = new LinkedHashMap<>();
+    source.put("id", 1);
+    source.put("map", nested);
+    source.put("list", Arrays.asList(nested, nested));
+    String expectedMap = JSONMap.from(source).toString();
+    String expectedList = JSONList.from(Arrays.asList(source, nested)).toString();
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Boolean>> results = new ArrayList<>();
+    try {
+      for (int i = 0; i < threads; i++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          for (int n = 0; n < 2_000; n++) {
+            if (!expectedMap.equals(JSONMap.from(source).toString())
+                || !expectedList.equals(JSONList.from(Arrays.asList(source, nested)).toString())) {
+              return false;
+            }
+          }
+          return true;
+        }));
+      }
+      start.countDown();
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get(30, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testJSONMapEqualsAndHashCode() throws IOException {
+    String json = "[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"name\":\"b\"},{\"id\":1,\"name\":\"a\"},{\"name\":\"a\",\"id\":1}]";
+    JSONList l1 = JSONList.fromJsonString(json);
+    JSONMap plain = JSONMap.of("id", 1, "name", "a");
+    Map<String, Object> linked = new LinkedHashMap<>(plain);
+    // 값이 다르면 다른 JSONMap
+    assertNotEquals(l1.get(0), l1.get(1));
+    assertNotEquals(l1.get(0).hashCode(), l1.get(1).hashCode());
+    assertNotEquals(JSONMap.of("id", 1), JSONMap.of("id", null));
+    assertNotEquals(JSONMap.of("id", null), JSONMap.of("other", null));
+    // 저장 형태(LinkedHashMap, shape, frozen)와 key 순서에 관계없이 Map.equals 규약을 따른다
+    for (JSONMap m : Arrays.asList(l1.get(0), l1.get(2), l1.get(3), plain, l1.get(0).freeze(), l1.get(3).freeze(),
+        plain.freeze())) {
+      assertEquals(plain, m);
+      assertEquals(m, plain);
+      assertEquals(linked, m);
+      assertEquals(m, linked);
+      assertEquals(linked.hashCode(), m.hashCode());
+    }
+    Set<JSONMap> rows = new HashSet<>(l1);
+    assertEquals(2, rows.size());
+    assertEquals(2, new HashSet<>(l1.freeze()).size());
+    // 값을 변경하면 hash도 바뀐다
+    JSONMap row = l1.get(2);
+    int hash = row.hashCode();
+    row.put("name", "b");
+    assertNotEquals(hash, row.hashCode());
+    assertNotEquals(l1.get(0), row);
+    assertFalse(rows.contains(JSONMap.of("id", 1, "name", "b")));
+    // JSONList는 순서대로 원소를 비교
+    JSONList frozen = JSONList.fromJsonString(json).freeze();
+    assertEquals(JSONList.fromJsonString(json), frozen);
+    assertEquals(frozen, JSONList.fromJsonString(json).freeze());
+    assertEquals(frozen.hashCode(), JSONList.fromJsonString(json).hashCode());
+    assertNotEquals(frozen, l1);
+    assertNotEquals(new JSONList(), JSONList.fromJsonString("[{}]"));
+  }
+
+  @Test
+  public void testJSONMapMetrics() throws IOException {
+    InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+    Metrics.register(recorder);
+    try {
+      String json = "{\"a\":1,\"b\":[{\"c\":\"2\"}]}";
+      JSONMap m1 = JSONMap.fromJsonString(json);
+      assertThrows(IOException.class, () -> JSONMap.fromJsonString("{"));
+      JSONList.fromJsonString("[" + json + "]");
+      JSONMap.from(new LinkedHashMap<>(m1));
+      // 변환 중 발생한 예외는 실패로 기록
+      assertThrows(UnsupportedOperationException.class, () -> JSONMap.from(new AbstractMap<String, Object>() {
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+          throw new UnsupportedOperationException();
+        }
+      }));
+      byte[] bytes = m1.toJsonBytes();
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      m1.writeTo(out);
+      StringWriter writer = new StringWriter();
+      m1.writeTo(writer);
+      m1.castGetAsNumber("a", Integer.class);
+      assertEquals(1, recorder.snapshot("json.parse.map").getCount());
+      assertEquals(1, recorder.snapshot("json.parse.map").getFailureCount());
+      assertEquals(json.length(), recorder.snapshot("json.parse.map").getBytes());
+      assertEquals(1, recorder.snapshot("json.parse.list").getCount());
+      assertEquals(1, recorder.snapshot("json.convert.map").getCount());
+      assertEquals(1, recorder.snapshot("json.convert.map").getFailureCount());
+      assertEquals(0, recorder.snapshot("json.convert.map").getBytes());
+      // toJsonBytes, writeTo(OutputStream)는 byte 수, writeTo(Writer)는 문자 수
+      assertEquals(3, recorder.snapshot("json.serialize.map").getCount());
+      assertEquals(bytes.length + out.size() + writer.toString().length(),
+          recorder.snapshot("json.serialize.map").getBytes());
+      assertEquals(1, recorder.snapshot("number.parse").getCount());
+      assertEquals(0, recorder.snapshot("number.parse").getBytes());
+    } finally {
+      Metrics.reset();
+    }
+    // 기본값(NOOP)으로 되돌린 뒤에는 기록하지 않음
+    JSONMap.fromJsonString("{}");
+    assertEquals(1, recorder.snapshot("json.parse.map").getCount());
+  }
+
+  @Test
+  public void testJSONMapBuilder() {
+    Map<String, Object> child = new LinkedHashMap<>();
+    child.put("v", 1);
+    JSONMap.JSONMapBuilder builder = JSONMap.builder(4).put("a", 1).put("b", child).put(null, "ignored").put("a", 2);
+    JSONMap m1 = builder.build();
+    // 같은 key는 처음 위치에 마지막 값, null key는 제외, Map 값은 JSONMap으로 변환
+    assertEquals(Arrays.asList("a", "b"), new ArrayList<>(m1.keySet()));
+    assertEquals(Integer.valueOf(2), m1.castGet("a"));
+    assertTrue(m1.get("b") instanceof JSONMap);
+    // 삭제 후 다시 담으면 마지막 위치
+    assertEquals(Arrays.asList("b", "a"), new ArrayList<>(JSONMap.builder().from(m1).remove("a").put("a", 3).build().keySet()));
+    // build 이후에는 builder를 사용할 수 없으므로, 넘겨준 JSONMap을 바꿔도 builder와 공유하지 않음
+    m1.put("leak", true);
+    assertThrows(IllegalStateException.class, () -> builder.put("c", 3));
+    assertThrows(IllegalStateException.class, () -> builder.remove("a"));
+    assertThrows(IllegalStateException.class, builder::build);
+    assertEquals(Arrays.asList("a", "b", "leak"), new ArrayList<>(m1.keySet()));
+    JSONMap m2 = m1.toBuilder().remove("leak").build();
+    assertEquals(Arrays.asList("a", "b"), new ArrayList<>(m2.keySet()));
+    assertSame(m1.get("b"), m2.get("b"));
+
+    JSONList.JSONListBuilder listBuilder = JSONList.builder(2).add(JSONMap.of("id", 1)).addAll(Arrays.asList(child, "x"));
+    JSONList l1 = listBuilder.build();
+    assertEquals(2, l1.size());
+    l1.add(JSONMap.of("id", 3));
+    assertThrows(IllegalStateException.class, () -> listBuilder.add(JSONMap.of("id", 4)));
+    assertThrows(IllegalStateException.class, listBuilder::removeFirst);
+    assertThrows(IllegalStateException.class, listBuilder::build);
+    assertEquals(3, l1.size());
+    JSONList l2 = JSONList.builder().from(l1).removeFirst().build();
+    assertEquals(3, l1.size());
+    assertEquals(2, l2.size());
+  }
 }
@@ -0,0 +1,267 @@
+package io.github.saintkim12.mycore.json;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.github.saintkim12.mycore.json.io.JSONArrayReader;
+import io.github.saintkim12.mycore.json.io.JSONListWriter;
+import io.github.saintkim12.mycore.json.io.JSONListWriter.Format;
+import io.github.saintkim12.mycore.json.io.MappedFileInputStream;
+import io.github.saintkim12.mycore.json.io.NDJSONReader;
+import io.github.saintkim12.mycore.json.io.ParallelNDJSONReader;
+import io.github.saintkim12.mycore.json.io.NDJSONReader.MalformedLinePolicy;
+import io.github.saintkim12.mycore.json.model.JSONList;
+import io.github.saintkim12.mycore.json.model.JSONMap;
+
+public class JSONStreamTest {
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private static final String NDJSON = String.join("\n", new String[]{
+    "{\"id\":1,\"name\":\"a\"}",
+    "",
+    "{\"id\":2,\"name\":\"b\",\"list\":[{\"value\":1}]}\r",
+    "{\"id\":3,",
+    "[1,2]",
+    "{\"id\":4} {\"id\":5}",
+    "{\"id\":6}"
+  });
+
+  @Test
+  public void testNDJSONReader() throws IOException {
+    // SKIP: 잘못된 줄은 건너뜀
+    try (Stream<JSONMap> rows = NDJSONReader.of(new StringReader(NDJSON), MalformedLinePolicy.SKIP).stream()) {
+      assertEquals(
+        Arrays.asList(1, 2, 6),
+        rows.map(m -> m.<Integer>castGet("id")).collect(Collectors.toList()));
+    }
+    // COLLECT: 잘못된 줄의 줄 번호, 내용을 모아둠
+    try (NDJSONReader reader = NDJSONReader.of(new StringReader(NDJSON), MalformedLinePolicy.COLLECT)) {
+      assertEquals(3, reader.stream().count());
+      List<NDJSONReader.MalformedLine> malformedLines = reader.getMalformedLines();
+      assertEquals(3, malformedLines.size());
+      assertEquals(4L, malformedLines.get(0).getLineNumber());
+      assertEquals("[1,2]", malformedLines.get(1).getLine());
+    }
+    // FAIL: 잘못된 줄에서 에러 발생
+    try (NDJSONReader reader = NDJSONReader.of(new StringReader(NDJSON))) {
+      assertEquals(Integer.valueOf(1), reader.next().castGet("id"));
+      assertTrue(reader.next().get("list") instanceof JSONList);
+      reader.next();
+      assertTrue("expected failure", false);
+    } catch (UncheckedIOException e) {
+      assertTrue(e.getMessage().contains("line 4"));
+    }
+  }
+
+  @Test
+  public void testNDJSONReaderClose() throws IOException {
+    AtomicBoolean closed = new AtomicBoolean(false);
+    InputStream in = new ByteArrayInputStream(NDJSON.getBytes(StandardCharsets.UTF_8)) {
+      @Override
+      public void close() throws IOException {
+        closed.set(true);
+        super.close();
+      }
+    };
+    try (Stream<JSONMap> rows = NDJSONReader.of(in, MalformedLinePolicy.SKIP).stream()) {
+      assertEquals(Integer.valueOf(1), rows.findFirst().get().castGet("id"));
+    }
+    assertTrue(closed.get());
+  }
+
+  @Test
+  public void testJSONArrayReader() throws IOException {
+    String strData = "[{\"id\":1},2,{\"id\":2,\"list\":[{\"id\":3}]},[{\"id\":-1}],{\"id\":4},{\"id\":5}]";
+    try (JSONArrayReader reader = JSONArrayReader.of(new StringReader(strData))) {
+      assertEquals(Integer.valueOf(1), reader.next().castGet("id"));
+      assertTrue(reader.next().get("list") instanceof JSONList);
+      assertEquals(Integer.valueOf(4), reader.stream().findFirst().get().castGet("id"));
+      assertEquals(1, reader.readChunk(10).size());
+      assertTrue(reader.readChunk(10).isEmpty());
+    }
+    try (Stream<JSONList> chunks = JSONArrayReader.of(new StringReader(strData)).chunks(2)) {
+      assertEquals(Arrays.asList(2, 2), chunks.map(JSONList::size).collect(Collectors.toList()));
+    }
+    assertEquals(JSONList.fromJsonString(strData), JSONArrayReader.of(new StringReader(strData)).toJSONList());
+    try (JSONArrayReader reader = JSONArrayReader.of(new StringReader("{\"id\":1}"))) {
+      reader.hasNext();
+      assertTrue("expected failure", false);
+    } catch (UncheckedIOException e) {
+      assertTrue(e.getMessage().contains("not a json array"));
+    }
+  }
+
+  @Test
+  public void testFromPath() throws IOException {
+    String strData = "[{\"id\":1,\"name\":\"\ud55c\uae00\"},{\"id\":2,\"list\":[{\"id\":3}]}]";
+    Path path = temporaryFolder.newFile().toPath();
+    Files.write(path, strData.getBytes(StandardCharsets.UTF_8));
+    assertEquals(JSONList.fromJsonString(strData).toString(), JSONList.fromPath(path).toString());
+    Files.write(path, "{\"id\":1,\"map\":{\"value\":\"a\"}}".getBytes(StandardCharsets.UTF_8));
+    assertEquals("a", JSONMap.fromPath(path).<JSONMap>castGet("map").get("value"));
+    // segment 단위로 나누어 mapping해도 같은 내용
+    Files.write(path, strData.getBytes(StandardCharsets.UTF_8));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (InputStream in = new MappedFileInputStream(path, 7)) {
+      byte[] buffer = new byte[5];
+      for (int n = in.read(buffer); n >= 0; n = in.read(buffer)) {
+        out.write(buffer, 0, n);
+      }
+    }
+    assertEquals(strData, new String(out.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testParallelNDJSONReader() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      sb.append("{\"id\":").append(i).append(",\"list\":[{\"value\":").append(i).append("}]}\n");
+      if (i % 100 == 0) {
+        sb.append("\n");
+      }
+    }
+    byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+    Path path = temporaryFolder.newFile().toPath();
+    Files.write(path, bytes);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      // 원래 순서대로 모음
+      JSONList rows = ParallelNDJSONReader.of(path).pool(pool).chunkSize(1000).readAll();
+      assertEquals(1000, rows.size());
+      for (int i = 0; i < rows.size(); i++) {
+        assertEquals(Integer.valueOf(i), rows.get(i).castGet("id"));
+      }
+      assertEquals(rows.toString(), ParallelNDJSONReader.of(bytes).pool(pool).chunkSize(333).readAll().toString());
+      // 순서와 관계없이 집계
+      LongAdder sum = new LongAdder();
+      ParallelNDJSONReader.of(bytes).pool(pool).chunkSize(100).forEachUnordered(m -> sum.add(m.<Integer>castGet("id")));
+      assertEquals(999 * 1000 / 2, sum.sum());
+    } finally {
+      pool.shutdown();
+    }
+    try {
+      ParallelNDJSONReader.of("{\"id\":1}\n[1]\n".getBytes(StandardCharsets.UTF_8)).readAll();
+      assertTrue("expected failure", false);
+    } catch (IOException e) {
+      assertTrue(e.getMessage().contains("malformed json"));
+    }
+  }
+
+  @Test
+  public void testParallelNDJSONReaderFailure() throws Exception {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 200_000; i++) {
+      sb.append(i == 10 ? "{\"id\":" : "{\"id\":" + i + "}").append("\n");
+    }
+    byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      // 실패 후에는 action이 호출되지 않음
+      AtomicLong calls = new AtomicLong();
+      try {
+        ParallelNDJSONReader.of(bytes).pool(pool).chunkSize(64 << 10).forEachUnordered(m -> calls.incrementAndGet());
+        assertTrue("expected failure", false);
+      } catch (IOException e) {
+        assertTrue(e.getMessage().contains("malformed json in chunk [0, "));
+      }
+      long callsAtFailure = calls.get();
+      assertTrue(callsAtFailure < 200_000);
+      Thread.sleep(200);
+      assertEquals(callsAtFailure, calls.get());
+      assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+      assertEquals(callsAtFailure, calls.get());
+      // 파일 입력도 동일
+      Path path = temporaryFolder.newFile().toPath();
+      Files.write(path, bytes);
+      try {
+        ParallelNDJSONReader.of(path).pool(pool).chunkSize(64 << 10).readAll();
+        assertTrue("expected failure", false);
+      } catch (IOException e) {
+        assertTrue(e.getMessage().contains("malformed json"));
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testJSONListWriter() throws IOException {
+    JSONList rows = JSONList.fromJsonString("[{\"id\":1,\"name\":\"a\"},{\"id\":2,\"list\":[{\"value\":\"가\"}]},{\"id\":3}]");
+    // ARRAY: toJsonBytes와 같은 결과
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    assertEquals(3, JSONListWriter.write(rows, out, Format.ARRAY));
+    assertArrayEquals(rows.toJsonBytes(), out.toByteArray());
+    out.reset();
+    JSONListWriter.write(new JSONList(), out, Format.ARRAY);
+    assertEquals("[]", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    // NDJSON: NDJSONReader로 다시 읽을 수 있음, 출력 후 out은 닫지 않음
+    AtomicBoolean closed = new AtomicBoolean(false);
+    out = new ByteArrayOutputStream() {
+      @Override
+      public void close() {
+        closed.set(true);
+      }
+    };
+    JSONListWriter.write(rows.iterator(), out, Format.NDJSON);
+    assertEquals(false, closed.get());
+    try (NDJSONReader reader = NDJSONReader.of(new ByteArrayInputStream(out.toByteArray()))) {
+      assertEquals(rows, JSONList.from(reader.stream().collect(Collectors.toList())));
+    }
+    // Iterator(JSONArrayReader)를 channel로 출력, 지정한 행 수마다 flush, close 시 out도 닫음
+    AtomicInteger flushes = new AtomicInteger();
+    ByteArrayOutputStream target = new ByteArrayOutputStream() {
+      @Override
+      public void flush() {
+        flushes.incrementAndGet();
+      }
+
+      @Override
+      public void close() {
+        closed.set(true);
+      }
+    };
+    try (JSONArrayReader reader = JSONArrayReader.of(new ByteArrayInputStream(rows.toJsonBytes()));
+        JSONListWriter writer = JSONListWriter.of(target, Format.NDJSON, 2)) {
+      assertEquals(3, writer.writeAll(reader));
+      assertEquals(1, flushes.get());
+      assertEquals(3, writer.getCount());
+    }
+    assertTrue(closed.get());
+    assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8),
+        new String(target.toByteArray(), StandardCharsets.UTF_8));
+    ByteArrayOutputStream channelOut = new ByteArrayOutputStream();
+    JSONListWriter writer = JSONListWriter.of(Channels.newChannel(channelOut), Format.ARRAY);
+    writer.writeAll(rows);
+    writer.close();
+    assertArrayEquals(rows.toJsonBytes(), channelOut.toByteArray());
+    assertThrows(IllegalStateException.class, () -> writer.write(JSONMap.of("id", 4)));
+  }
+}
@@ -0,0 +1,182 @@
+package io.github.saintkim12.mycore.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * InMemoryMetricsRecorder
+ * <p>
+ * 연산(operation)별 기록을 메모리에 누적하는 {@link MetricsRecorder}
+ * <p>
+ * 호출 횟수, bytes, 소요 시간은 LongAdder로, 소요 시간 분포는 2의 거듭제곱 단위 histogram으로 누적한다.
+ * 기록 시 객체를 만들지 않는다.(연산별 첫 기록 제외)
+ * <p>
+ * {@link #registerMBean()}을 호출하면 JMX로 조회할 수 있다.
+ *
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public class InMemoryMetricsRecorder implements MetricsRecorder, MetricsMXBean {
+  /**
+   * registerMBean()에서 사용하는 ObjectName
+   */
+  public static final String OBJECT_NAME = "io.github.saintkim12.mycore:type=Metrics";
+
+  private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+  /* MetricsRecorder */
+  @Override
+  public void record(String operation, long elapsedNanos, long bytes) {
+    Counter counter = counterOf(operation);
+    counter.count.increment();
+    if (bytes > 0L) {
+      // UNKNOWN_BYTES(-1)는 합산하지 않음
+      counter.bytes.add(bytes);
+    }
+    counter.time(elapsedNanos);
+  }
+
+  @Override
+  public void recordFailure(String operation, long elapsedNanos) {
+    Counter counter = counterOf(operation);
+    counter.failures.increment();
+    counter.time(elapsedNanos);
+  }
+
+  /* original method */
+  /**
+   * 연산 하나의 현재 기록을 복사하여 리턴
+   * @param operation 연산 이름
+   * @return OperationStats(기록이 없으면 모든 값이 0)
+   */
+  public OperationStats snapshot(String operation) {
+    Counter counter = counters.get(operation);
+    return counter == null ? new OperationStats(operation, 0, 0, 0, 0, 0, new long[OperationStats.BUCKETS])
+        : counter.snapshot(operation);
+  }
+
+  /**
+   * 모든 연산의 현재 기록을 복사하여 리턴
+   * @return 연산 이름 순으로 정렬된 Map
+   */
+  public Map<String, OperationStats> snapshot() {
+    Map<String, OperationStats> result = new LinkedHashMap<>();
+    for (Map.Entry<String, Counter> e : new TreeMap<>(counters).entrySet()) {
+      result.put(e.getKey(), e.getValue().snapshot(e.getKey()));
+    }
+    return result;
+  }
+
+  /**
+   * platform MBeanServer에 {@link #OBJECT_NAME}으로 등록
+   * <p>
+   * 같은 이름으로 등록된 MBean이 있으면 교체한다.
+   * @return 등록된 ObjectName
+   * @throws JMException 등록 실패 시
+   */
+  public ObjectName registerMBean() throws JMException {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(OBJECT_NAME);
+    if (server.isRegistered(name)) {
+      server.unregisterMBean(name);
+    }
+    server.registerMBean(this, name);
+    return name;
+  }
+
+  /**
+   * platform MBeanServer에서 등록 해제
+   * @throws JMException 등록 해제 실패 시
+   */
+  public void unregisterMBean() throws JMException {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(OBJECT_NAME);
+    if (server.isRegistered(name)) {
+      server.unregisterMBean(name);
+    }
+  }
+
+  /* MetricsMXBean */
+  @Override
+  public String[] getOperations() {
+    return new TreeMap<>(counters).keySet().toArray(new String[0]);
+  }
+
+  @Override
+  public String[] getSummary() {
+    return snapshot().values().stream().map(OperationStats::toString).toArray(String[]::new);
+  }
+
+  @Override
+  public long getCount(String operation) {
+    return snapshot(operation).getCount();
+  }
+
+  @Override
+  public long getFailureCount(String operation) {
+    return snapshot(operation).getFailureCount();
+  }
+
+  @Override
+  public long getBytes(String operation) {
+    return snapshot(operation).getBytes();
+  }
+
+  @Override
+  public double getMeanNanos(String operation) {
+    return snapshot(operation).getMeanNanos();
+  }
+
+  @Override
+  public long getPercentileNanos(String operation, double q) {
+    return snapshot(operation).getPercentileNanos(q);
+  }
+
+  @Override
+  public void reset() {
+    counters.clear();
+  }
+
+  private Counter counterOf(String operation) {
+    Counter counter = counters.get(operation);
+    return counter != null ? counter : counters.computeIfAbsent(operation, k -> new Counter());
+  }
+
+  /**
+   * 연산 하나의 누적 기록
+   */
+  private static final class Counter {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLongArray histogram = new AtomicLongArray(OperationStats.BUCKETS);
+
+    private void time(long elapsedNanos) {
+      totalNanos.add(elapsedNanos);
+      maxNanos.accumulate(elapsedNanos);
+      histogram.incrementAndGet(OperationStats.bucketOf(elapsedNanos));
+    }
+
+    private OperationStats snapshot(String operation) {
+      long[] buckets = new long[OperationStats.BUCKETS];
+      for (int i = 0; i < buckets.length; i++) {
+        buckets[i] = histogram.get(i);
+      }
+      return new OperationStats(operation, count.sum(), failures.sum(), bytes.sum(), totalNanos.sum(), maxNanos.get(),
+          buckets);
+    }
+  }
+}
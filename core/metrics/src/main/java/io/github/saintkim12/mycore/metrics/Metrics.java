@@ -0,0 +1,124 @@
+package io.github.saintkim12.mycore.metrics;
+
+/**
+ * Metrics
+ * <p>
+ * core 모듈에서 공통으로 사용할 {@link MetricsRecorder}를 보관하는 registry
+ * <p>
+ * 기본값은 {@link MetricsRecorder#NOOP}이며, 이 경우 측정 지점에서는 volatile 필드 하나만 읽고 바로 리턴한다.(시간 측정, 객체 생성 없음)
+ * <p>
+ * 측정하려면 애플리케이션 시작 시 한 번 {@link #register(MetricsRecorder)}를 호출한다.
+ *
+ * <pre>
+ * InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+ * recorder.registerMBean(); // JMX로 노출(선택)
+ * Metrics.register(recorder);
+ * </pre>
+ *
+ * 측정 지점에서는 다음과 같이 사용한다.
+ *
+ * <pre>
+ * long start = Metrics.start();
+ * ... // 측정할 연산
+ * Metrics.record("json.parse.map", start, length);
+ * </pre>
+ *
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class Metrics {
+  private static volatile MetricsRecorder RECORDER = MetricsRecorder.NOOP;
+
+  private Metrics() {
+  }
+
+  /**
+   * 등록된 recorder를 얻는다.
+   * @return registered MetricsRecorder
+   */
+  public static MetricsRecorder recorder() {
+    return RECORDER;
+  }
+
+  /**
+   * recorder를 교체한다.
+   * <p>
+   * 이후의 모든 측정에 적용된다.
+   * @param recorder MetricsRecorder 구현체
+   * @throws IllegalArgumentException recorder가 null인 경우
+   */
+  public static void register(MetricsRecorder recorder) {
+    if (recorder == null) {
+      throw new IllegalArgumentException("recorder must not be null");
+    }
+    RECORDER = recorder;
+  }
+
+  /**
+   * recorder를 기본값(NOOP)으로 되돌린다.
+   */
+  public static void reset() {
+    RECORDER = MetricsRecorder.NOOP;
+  }
+
+  /**
+   * 등록된 recorder의 기록 여부
+   * <p>
+   * 기록할 때만 필요한 추가 작업(파일 크기 조회, 출력 크기 계산 등)을 생략할 때 사용한다.
+   * @return 기록 여부
+   */
+  public static boolean isEnabled() {
+    return RECORDER.isEnabled();
+  }
+
+  /**
+   * 측정을 시작한다.
+   * @return 시작 시각(System.nanoTime) 또는 0(기록하지 않는 경우)
+   */
+  public static long start() {
+    if (!RECORDER.isEnabled()) {
+      return 0L;
+    }
+    long now = System.nanoTime();
+    return now == 0L ? 1L : now;
+  }
+
+  /**
+   * 성공한 연산을 기록
+   * <p>
+   * start가 0이면(측정 시작 시 기록하지 않는 상태) 아무것도 하지 않는다.
+   * @param operation 연산 이름
+   * @param start {@link #start()}의 리턴값
+   * @param bytes 읽거나 쓴 크기(String, Writer인 경우 문자 수)
+   */
+  public static void record(String operation, long start, long bytes) {
+    if (start != 0L) {
+      RECORDER.record(operation, System.nanoTime() - start, bytes);
+    }
+  }
+
+  /**
+   * 크기가 의미 없는 성공한 연산을 기록({@link MetricsRecorder#UNKNOWN_BYTES})
+   * <p>
+   * start가 0이면(측정 시작 시 기록하지 않는 상태) 아무것도 하지 않는다.
+   * @param operation 연산 이름
+   * @param start {@link #start()}의 리턴값
+   */
+  public static void record(String operation, long start) {
+    record(operation, start, MetricsRecorder.UNKNOWN_BYTES);
+  }
+
+  /**
+   * 실패한 연산을 기록
+   * <p>
+   * start가 0이면(측정 시작 시 기록하지 않는 상태) 아무것도 하지 않는다.
+   * @param operation 연산 이름
+   * @param start {@link #start()}의 리턴값
+   */
+  public static void recordFailure(String operation, long start) {
+    if (start != 0L) {
+      RECORDER.recordFailure(operation, System.nanoTime() - start);
+    }
+  }
+}
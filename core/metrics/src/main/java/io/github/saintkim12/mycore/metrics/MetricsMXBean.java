@@ -0,0 +1,59 @@
+package io.github.saintkim12.mycore.metrics;
+
+/**
+ * MetricsMXBean
+ * <p>
+ * {@link InMemoryMetricsRecorder}의 기록을 JMX(jconsole, VisualVM 등)로 조회하기 위한 interface
+ *
+ * @see InMemoryMetricsRecorder#registerMBean()
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public interface MetricsMXBean {
+  /**
+   * @return 기록된 연산 이름 목록
+   */
+  String[] getOperations();
+
+  /**
+   * @return 연산별 기록 요약(OperationStats#toString) 목록
+   */
+  String[] getSummary();
+
+  /**
+   * @param operation 연산 이름
+   * @return 성공한 호출 횟수
+   */
+  long getCount(String operation);
+
+  /**
+   * @param operation 연산 이름
+   * @return 실패한 호출 횟수
+   */
+  long getFailureCount(String operation);
+
+  /**
+   * @param operation 연산 이름
+   * @return 읽거나 쓴 크기의 합(String, Writer인 경우 문자 수)
+   */
+  long getBytes(String operation);
+
+  /**
+   * @param operation 연산 이름
+   * @return 평균 소요 시간(ns)
+   */
+  double getMeanNanos(String operation);
+
+  /**
+   * @param operation 연산 이름
+   * @param q 0 ~ 1 사이의 값(ex> 0.99)
+   * @return 소요 시간의 percentile(ns, 근사값)
+   */
+  long getPercentileNanos(String operation, double q);
+
+  /**
+   * 기록을 모두 지운다.
+   */
+  void reset();
+}
@@ -0,0 +1,70 @@
+package io.github.saintkim12.mycore.metrics;
+
+/**
+ * MetricsRecorder
+ * <p>
+ * 연산(operation)별 호출 횟수, 처리 bytes, 소요 시간(latency), 실패 횟수를 전달받는 SPI
+ * <p>
+ * 구현체는 여러 thread에서 동시에 호출되므로 thread-safe해야 하며, 호출한 쪽의 처리를 막지 않도록 가볍게 구현한다.
+ * 구현체는 {@link Metrics#register(MetricsRecorder)}로 등록한다.
+ * <p>
+ * operation 이름은 "모듈.연산.대상" 형식을 사용한다.(ex> json.parse.map, number.tryParse)
+ * <p>
+ * bytes는 byte 배열, OutputStream, 파일을 대상으로 한 경우 byte 수이고, String, Writer를 대상으로 한 경우 문자(char) 수이다.
+ * 크기가 의미 없는 연산(객체 변환, 숫자 파싱 등)은 {@link #UNKNOWN_BYTES}를 전달한다.
+ *
+ * @see Metrics
+ * @see InMemoryMetricsRecorder
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public interface MetricsRecorder {
+  /**
+   * 크기를 기록하지 않는 연산의 bytes 값
+   */
+  long UNKNOWN_BYTES = -1L;
+
+  /**
+   * 아무것도 기록하지 않는 recorder(기본값)
+   */
+  MetricsRecorder NOOP = new MetricsRecorder() {
+    @Override
+    public boolean isEnabled() {
+      return false;
+    }
+
+    @Override
+    public void record(String operation, long elapsedNanos, long bytes) {
+    }
+
+    @Override
+    public void recordFailure(String operation, long elapsedNanos) {
+    }
+  };
+
+  /**
+   * 기록 여부
+   * <p>
+   * false인 경우 호출하는 쪽에서 시간 측정(System.nanoTime)을 생략한다.
+   * @return 기록 여부
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  /**
+   * 성공한 연산 1회를 기록
+   * @param operation 연산 이름
+   * @param elapsedNanos 소요 시간(ns)
+   * @param bytes 읽거나 쓴 크기(String, Writer인 경우 문자 수, 해당 없는 경우 {@link #UNKNOWN_BYTES})
+   */
+  void record(String operation, long elapsedNanos, long bytes);
+
+  /**
+   * 실패한(예외 발생 또는 변환 실패) 연산 1회를 기록
+   * @param operation 연산 이름
+   * @param elapsedNanos 소요 시간(ns)
+   */
+  void recordFailure(String operation, long elapsedNanos);
+}
@@ -0,0 +1,144 @@
+package io.github.saintkim12.mycore.metrics;
+
+/**
+ * OperationStats
+ * <p>
+ * 연산(operation) 하나의 기록을 특정 시점에 복사한 값(immutable)
+ * <p>
+ * 소요 시간은 2의 거듭제곱 단위 구간(bucket)의 histogram으로 보관하므로, percentile은 해당 구간의 상한값(근사값)이다.
+ *
+ * @see InMemoryMetricsRecorder#snapshot(String)
+ * @author saintkim12
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+public final class OperationStats {
+  /**
+   * histogram 구간 수: i번째 구간은 [2^(i-1), 2^i) ns(0번째 구간은 0ns)
+   */
+  public static final int BUCKETS = 64;
+
+  private final String operation;
+  private final long count;
+  private final long failureCount;
+  private final long bytes;
+  private final long totalNanos;
+  private final long maxNanos;
+  private final long[] histogram;
+
+  OperationStats(String operation, long count, long failureCount, long bytes, long totalNanos, long maxNanos,
+      long[] histogram) {
+    this.operation = operation;
+    this.count = count;
+    this.failureCount = failureCount;
+    this.bytes = bytes;
+    this.totalNanos = totalNanos;
+    this.maxNanos = maxNanos;
+    this.histogram = histogram;
+  }
+
+  /**
+   * @return 연산 이름
+   */
+  public String getOperation() {
+    return operation;
+  }
+
+  /**
+   * @return 성공한 호출 횟수
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * @return 실패한 호출 횟수
+   */
+  public long getFailureCount() {
+    return failureCount;
+  }
+
+  /**
+   * @return 성공한 호출에서 읽거나 쓴 크기의 합(String, Writer인 경우 문자 수, {@link MetricsRecorder#UNKNOWN_BYTES}는 제외)
+   */
+  public long getBytes() {
+    return bytes;
+  }
+
+  /**
+   * @return 전체(성공, 실패) 호출의 소요 시간 합(ns)
+   */
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  /**
+   * @return 가장 오래 걸린 호출의 소요 시간(ns)
+   */
+  public long getMaxNanos() {
+    return maxNanos;
+  }
+
+  /**
+   * @return 전체(성공, 실패) 호출의 평균 소요 시간(ns) 또는 0(호출 없음)
+   */
+  public double getMeanNanos() {
+    long calls = count + failureCount;
+    return calls == 0 ? 0 : (double) totalNanos / calls;
+  }
+
+  /**
+   * 소요 시간의 percentile(근사값)
+   * @param q 0 ~ 1 사이의 값(ex> 0.99)
+   * @return q 비율의 호출이 이 값 이하로 걸림(ns), 호출이 없으면 0
+   * @throws IllegalArgumentException q가 0 ~ 1 사이가 아닌 경우
+   */
+  public long getPercentileNanos(double q) {
+    if (!(q >= 0 && q <= 1)) {
+      throw new IllegalArgumentException("q must be between 0 and 1: " + q);
+    }
+    long calls = 0;
+    for (long c : histogram) {
+      calls += c;
+    }
+    if (calls == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(q * calls));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += histogram[i];
+      if (seen >= rank) {
+        return Math.min(upperBound(i), maxNanos);
+      }
+    }
+    return maxNanos;
+  }
+
+  /**
+   * 구간별 호출 횟수(복사본)
+   * @return histogram
+   */
+  public long[] getHistogram() {
+    return histogram.clone();
+  }
+
+  @Override
+  public String toString() {
+    return operation + "{count=" + count + ", failures=" + failureCount + ", bytes=" + bytes + ", meanNanos="
+        + (long) getMeanNanos() + ", p99Nanos=" + getPercentileNanos(0.99) + ", maxNanos=" + maxNanos + "}";
+  }
+
+  /**
+   * 소요 시간이 속하는 histogram 구간
+   * @param nanos 소요 시간(ns)
+   * @return 구간 index
+   */
+  static int bucketOf(long nanos) {
+    return nanos <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(nanos);
+  }
+
+  private static long upperBound(int bucket) {
+    return bucket >= 63 ? Long.MAX_VALUE : (1L << bucket) - 1;
+  }
+}
@@ -0,0 +1,89 @@
+package io.github.saintkim12.mycore.metrics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class MetricsTest {
+
+  @After
+  public void tearDown() {
+    Metrics.reset();
+  }
+
+  @Test
+  public void testMetricsNoop() {
+    assertSame(MetricsRecorder.NOOP, Metrics.recorder());
+    assertFalse(Metrics.isEnabled());
+    assertEquals(0L, Metrics.start());
+    InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+    Metrics.register(recorder);
+    assertTrue(Metrics.isEnabled());
+    assertNotEquals(0L, Metrics.start());
+    // 기록하지 않는 상태에서 시작한 측정은 기록하지 않음
+    Metrics.record("op", 0L, 10);
+    Metrics.recordFailure("op", 0L);
+    assertEquals(0, recorder.getOperations().length);
+    assertThrows(IllegalArgumentException.class, () -> Metrics.register(null));
+  }
+
+  @Test
+  public void testInMemoryMetricsRecorder() {
+    InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+    for (int i = 1; i <= 100; i++) {
+      recorder.record("b.op", i * 1000L, 10);
+    }
+    recorder.recordFailure("b.op", 1_000_000L);
+    recorder.record("a.op", 5, 0);
+    // 크기를 알 수 없는 기록은 bytes에 합산하지 않음
+    recorder.record("b.op", 1000L, MetricsRecorder.UNKNOWN_BYTES);
+    OperationStats stats = recorder.snapshot("b.op");
+    assertEquals(101, stats.getCount());
+    assertEquals(1, stats.getFailureCount());
+    assertEquals(1000, stats.getBytes());
+    assertEquals(1_000_000L, stats.getMaxNanos());
+    assertEquals((5050 * 1000L + 1000L + 1_000_000L) / 102.0, stats.getMeanNanos(), 1e-9);
+    // percentile은 2의 거듭제곱 구간의 상한값(실제 값 이상, 2배 미만)
+    long p50 = stats.getPercentileNanos(0.5);
+    assertTrue(p50 >= 51_000 && p50 < 102_000);
+    assertEquals(1_000_000L, stats.getPercentileNanos(1));
+    assertThrows(IllegalArgumentException.class, () -> stats.getPercentileNanos(1.5));
+    assertArrayEquals(new String[] { "a.op", "b.op" }, recorder.getOperations());
+    assertEquals(2, recorder.snapshot().size());
+    assertEquals(0, recorder.snapshot("none").getCount());
+    assertEquals(0, recorder.snapshot("none").getPercentileNanos(0.99));
+    recorder.reset();
+    assertEquals(0, recorder.getOperations().length);
+  }
+
+  @Test
+  public void testMetricsMBean() throws Exception {
+    InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+    ObjectName name = recorder.registerMBean();
+    try {
+      recorder.record("json.parse.map", 100, 42);
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      assertArrayEquals(new String[] { "json.parse.map" }, (String[]) server.getAttribute(name, "Operations"));
+      assertEquals(42L, server.invoke(name, "getBytes", new Object[] { "json.parse.map" },
+          new String[] { String.class.getName() }));
+      // 다시 등록하면 교체
+      new InMemoryMetricsRecorder().registerMBean();
+      assertEquals(0, ((String[]) server.getAttribute(name, "Operations")).length);
+    } finally {
+      recorder.unregisterMBean();
+    }
+    assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+  }
+}
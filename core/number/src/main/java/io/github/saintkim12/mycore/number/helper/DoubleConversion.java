@@ -0,0 +1,139 @@
+package io.github.saintkim12.mycore.number.helper;
+
+import java.math.BigInteger;
+
+/**
+ * DoubleConversion
+ * <p>
+ * 10진수(mantissa × 10^exponent)를 가장 가까운 double로 변환(correct rounding)
+ * <ul>
+ * <li>Clinger fast path: mantissa &lt; 2^53, |exponent| &lt;= 22인 경우 곱셈/나눗셈 한 번(정확한 값)</li>
+ * <li>Eisel-Lemire: 128bit 5의 거듭제곱 표와의 곱으로 결과를 결정, 결정할 수 없는 경우(반올림 경계 등) 실패</li>
+ * </ul>
+ * 실패 시 NaN을 리턴하며, 호출하는 쪽에서 BigDecimal 등으로 변환한다.
+ *
+ * @see NumberHelper#parseDouble(CharSequence, int, int, double)
+ */
+final class DoubleConversion {
+  private DoubleConversion() {
+  }
+
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  static final int MIN_EXPONENT = -342;
+  static final int MAX_EXPONENT = 308;
+
+  // 5^q(q: MIN_EXPONENT ~ MAX_EXPONENT)를 [2^127, 2^128) 범위로 정규화한 128bit 값(상위 64bit, 하위 64bit 순)
+  private static final long[] POWERS_OF_FIVE = new long[(MAX_EXPONENT - MIN_EXPONENT + 1) * 2];
+  static {
+    BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+    BigInteger mask64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+    for (int q = MIN_EXPONENT; q <= MAX_EXPONENT; q++) {
+      BigInteger value;
+      if (q < 0) {
+        // 역수: 2^b / 5^-q 의 올림(truncate 후 +1)
+        BigInteger power5 = BigInteger.valueOf(5).pow(-q);
+        int z = power5.bitLength();
+        int b = q >= -27 ? z + 127 : 2 * z + 2 * 64;
+        value = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+        while (value.compareTo(two128) >= 0) {
+          value = value.shiftRight(1);
+        }
+      } else {
+        value = BigInteger.valueOf(5).pow(q);
+        int shift = 128 - value.bitLength();
+        value = shift >= 0 ? value.shiftLeft(shift) : value.shiftRight(-shift);
+      }
+      int index = (q - MIN_EXPONENT) * 2;
+      POWERS_OF_FIVE[index] = value.shiftRight(64).longValue();
+      POWERS_OF_FIVE[index + 1] = value.and(mask64).longValue();
+    }
+  }
+
+  /**
+   * mantissa × 10^exponent를 가장 가까운 double로 변환
+   * @param negative 음수 여부
+   * @param mantissa 10진 유효숫자(unsigned, 0이 아님)
+   * @param exponent 10의 지수
+   * @return double 값 또는 NaN(결정할 수 없는 경우)
+   */
+  static double toDouble(boolean negative, long mantissa, int exponent) {
+    if (mantissa >= 0 && mantissa < (1L << 53) && exponent >= -22 && exponent <= 22) {
+      double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+      return negative ? -value : value;
+    }
+    if (exponent < MIN_EXPONENT || exponent > MAX_EXPONENT) {
+      return Double.NaN;
+    }
+    return eiselLemire(negative, mantissa, exponent);
+  }
+
+  private static double eiselLemire(boolean negative, long mantissa, int exponent) {
+    int index = (exponent - MIN_EXPONENT) * 2;
+    long factorHigh = POWERS_OF_FIVE[index];
+    long factorLow = POWERS_OF_FIVE[index + 1];
+    // floor(log2(10^q)) + 1024 + 63
+    long binaryExponent = (((152170L + 65536L) * exponent) >> 16) + 1024 + 63;
+    int lz = Long.numberOfLeadingZeros(mantissa);
+    long w = mantissa << lz;
+
+    long lower = w * factorHigh;
+    long upper = unsignedMultiplyHigh(w, factorHigh);
+    if ((upper & 0x1FF) == 0x1FF && Long.compareUnsigned(lower + w, lower) < 0) {
+      // 하위 64bit까지 곱해서 정밀도 보완
+      long productLow = w * factorLow;
+      long productMiddle2 = unsignedMultiplyHigh(w, factorLow);
+      long productMiddle = lower + productMiddle2;
+      if (Long.compareUnsigned(productMiddle, lower) < 0) {
+        upper++;
+      }
+      if (productMiddle + 1 == 0 && (upper & 0x1FF) == 0x1FF && Long.compareUnsigned(productLow + w, productLow) < 0) {
+        return Double.NaN;
+      }
+      lower = productMiddle;
+    }
+    long upperBit = upper >>> 63;
+    long result = upper >>> (upperBit + 9);
+    lz += (int) (1 ^ upperBit);
+    if (lower == 0 && (upper & 0x1FF) == 0 && (result & 3) == 1) {
+      // 정확히 반올림 경계(halfway)인 경우
+      return Double.NaN;
+    }
+    result += result & 1;
+    result >>>= 1;
+    if (result >= (1L << 53)) {
+      result = 1L << 52;
+      lz--;
+    }
+    result &= ~(1L << 52);
+    long realExponent = binaryExponent - lz;
+    if (realExponent < 1 || realExponent > 2046) {
+      // subnormal, overflow
+      return Double.NaN;
+    }
+    result |= realExponent << 52;
+    if (negative) {
+      result |= 1L << 63;
+    }
+    return Double.longBitsToDouble(result);
+  }
+
+  /**
+   * 64bit unsigned 곱의 상위 64bit(Java 8에는 Math.multiplyHigh가 없음)
+   */
+  static long unsignedMultiplyHigh(long a, long b) {
+    long aHigh = a >>> 32;
+    long aLow = a & 0xFFFFFFFFL;
+    long bHigh = b >>> 32;
+    long bLow = b & 0xFFFFFFFFL;
+    long lowLow = aLow * bLow;
+    long highLow = aHigh * bLow;
+    long lowHigh = aLow * bHigh;
+    long highHigh = aHigh * bHigh;
+    long cross = (lowLow >>> 32) + (highLow & 0xFFFFFFFFL) + lowHigh;
+    return highHigh + (highLow >>> 32) + (cross >>> 32);
+  }
+}
@@ -3,22 +3,32 @@ package io.github.saintkim12.mycore.number.helper;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
-import java.util.Optional;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
-public class NumberHelper {
-  private static NumberHelper INSTANCE = null;
+import io.github.saintkim12.mycore.metrics.Metrics;
+
+public final class NumberHelper {
+  private static final NumberHelper INSTANCE = new NumberHelper();
+
+  // Metrics에 기록하는 연산 이름
+  private static final String METRIC_PARSE = "number.parse";
+  private static final String METRIC_TRY_PARSE = "number.tryParse";
 
   private NumberHelper() {
   }
 
   /**
    * 싱글톤 클래스의 인스턴스를 얻는다.
+   * <p>
+   * 클래스 초기화 시 한 번만 생성되므로 여러 thread에서 동시에 호출해도 같은 인스턴스를 리턴한다.
    * @return  NumberHelper instance(INSTANCE)
    */
   public static NumberHelper getInstance() {
-    if (INSTANCE == null) {
-      INSTANCE = new NumberHelper();
-    }
     return INSTANCE;
   }
   /**
@@ -272,11 +282,7 @@ public class NumberHelper {
    * @return 변환된 값 또는 defaultValue
    */
   private <N extends Number> N _tryParseTo(Object object, N defaultValue, Class<N> _class) {
-    try {
-      return this.parse(object, defaultValue, _class);
-    } catch (NumberFormatException | ClassCastException e) {
-      return defaultValue;
-    }
+    return this.tryParse(object, defaultValue, _class);
   }
 
   /**
@@ -285,6 +291,9 @@ public class NumberHelper {
    * null값을 변환 시도할 경우 지정한 defaultValue을 리턴한다.
    * <p>
    * 변환 실패 또는 타입 캐스팅 실패 시 에러 발생 
+   * <p>
+   * 결과는 객체의 문자열을 BigDecimal로 파싱한 뒤 변환하는 것과 같으며,
+   * 입력이 정수(Integer, Long, Short, Byte), double, BigDecimal, BigInteger인 경우 문자열, BigDecimal을 거치지 않는다.
    * @see #parse
    * @param <N> (java.lang.Number를 상속받는)변환할 클래스
    * @param object
@@ -295,32 +304,1009 @@ public class NumberHelper {
    * @throws ClassCastException
    */
   public <N extends Number> N parse(Object object, N defaultValue, Class<N> _class) {
-    // 정확한 값을 위해 BigDecimal 이용
-    BigDecimal _number = Optional.ofNullable(object).map(Object::toString).map(BigDecimal::new).orElse(null);
-    if (_number == null) {
+    long start = Metrics.start();
+    try {
+      N number = this._parse(object, defaultValue, _class);
+      Metrics.record(METRIC_PARSE, start);
+      return number;
+    } catch (RuntimeException e) {
+      Metrics.recordFailure(METRIC_PARSE, start);
+      throw e;
+    }
+  }
+
+  /**
+   * parse의 측정 제외 구현
+   */
+  private <N extends Number> N _parse(Object object, N defaultValue, Class<N> _class) {
+    if (object == null) {
+      return defaultValue;
+    }
+    NumberConverter converter = CONVERTERS.get(_class);
+    if (converter == null) {
+      // 지원하지 않는 클래스: 기존과 같이 파싱 후 ClassCastException 발생
+      return _class.cast(new BigDecimal(object.toString()));
+    }
+    Number number = _convertDirect(object, converter);
+    if (number == null) {
+      // 그 외(String, Float 등): 정확한 값을 위해 문자열을 BigDecimal로 파싱
+      number = converter.fromDecimal(new BigDecimal(object.toString()));
+    }
+    return _class.cast(number);
+  }
+
+  /**
+   * 객체를 지정한 클래스로 변환(파싱)한다.
+   * <p>
+   * 변환 실패 시, 타입 캐스팅 실패 시 또는 null값을 변환 시도할 경우 지정한 defaultValue을 리턴한다.
+   * <p>
+   * {@link #parse}와 같은 결과를 만들지만, 변환 전에 문자열이 BigDecimal 형식인지 먼저 확인하므로
+   * 변환 실패 시 예외가 발생(stack trace 생성)하지 않는다.
+   * @see #parse
+   * @param <N> (java.lang.Number를 상속받는)변환할 클래스
+   * @param object
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @param _class 변환할 클래스(N값과 동일하나, 클래스 인스턴스를 사용해야하므로 명시적으로 넘겨야 함)
+   * @return 변환된 값 또는 defaultValue
+   */
+  public <N extends Number> N tryParse(Object object, N defaultValue, Class<N> _class) {
+    long start = Metrics.start();
+    N number = this._tryParse(object, _class);
+    if (number != null || object == null) {
+      Metrics.record(METRIC_TRY_PARSE, start);
+    } else {
+      Metrics.recordFailure(METRIC_TRY_PARSE, start);
+    }
+    return number == null ? defaultValue : number;
+  }
+
+  /**
+   * tryParse의 측정 제외 구현
+   * @return 변환된 값 또는 null(null값, 변환 실패, 지원하지 않는 클래스)
+   */
+  private <N extends Number> N _tryParse(Object object, Class<N> _class) {
+    NumberConverter converter = object == null ? null : CONVERTERS.get(_class);
+    if (converter == null) {
+      // null 또는 지원하지 않는 클래스(parse 시 ClassCastException)
+      return null;
+    }
+    Number number = _convertDirect(object, converter);
+    if (number != null) {
+      return _class.cast(number);
+    }
+    String s = object.toString();
+    switch (_checkDecimal(s)) {
+    case DECIMAL_VALID:
+      number = converter.tryFromDecimal(new BigDecimal(s));
+      break;
+    case DECIMAL_INVALID:
+      return null;
+    default:
+      // ASCII가 아닌 문자(유니코드 숫자 등)가 있는 경우: BigDecimal의 판단에 맡김
+      try {
+        number = converter.tryFromDecimal(new BigDecimal(s));
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    return number == null ? null : _class.cast(number);
+  }
+
+  /**
+   * 문자열을 거치지 않고 변환할 수 있는 입력을 변환한다.
+   * @param object 입력값(not null)
+   * @param converter 변환 방법
+   * @return 변환된 값 또는 null(문자열을 BigDecimal로 파싱해야 하는 경우)
+   */
+  private static Number _convertDirect(Object object, NumberConverter converter) {
+    Class<?> sourceClass = object.getClass();
+    if (sourceClass == Integer.class || sourceClass == Long.class
+        || sourceClass == Short.class || sourceClass == Byte.class) {
+      // 정수 -> 같은 타입은 변환 없이 그대로 리턴
+      return sourceClass == converter.target ? (Number) object : converter.fromLong(((Number) object).longValue());
+    } else if (sourceClass == Double.class) {
+      double value = (Double) object;
+      if (converter.target == Double.class && value - value == 0 && value != 0) {
+        // 유한한 double -> Double은 변환 없이 그대로 리턴(0은 -0.0을 0.0으로 바꾸기 위해 변환)
+        return (Number) object;
+      }
+      // NaN, Infinity(NumberFormatException), 큰 값(BigDecimal 정수 변환)은 문자열 경로
+      return Math.abs(value) < SAFE_INTEGER_BOUND ? converter.fromDouble(value == 0 ? 0.0 : value) : null;
+    } else if (sourceClass == BigDecimal.class) {
+      return converter.fromDecimal((BigDecimal) object);
+    } else if (sourceClass == BigInteger.class) {
+      return converter.fromDecimal(new BigDecimal((BigInteger) object));
+    } else if (sourceClass == String.class) {
+      return _convertString((String) object, converter);
+    }
+    return null;
+  }
+
+  /**
+   * 문자열을 BigDecimal을 만들지 않고 변환한다.(정수, double 변환 대상만)
+   * <p>
+   * 변환 실패 또는 기본값과 같은 값은 null을 리턴하여 BigDecimal 경로에서 다시 판단한다.(예외, 기본값 처리 유지)
+   * @param s 입력 문자열
+   * @param converter 변환 방법
+   * @return 변환된 값 또는 null
+   */
+  private static Number _convertString(String s, NumberConverter converter) {
+    switch (converter) {
+    case INTEGER:
+    case LONG:
+    case SHORT:
+    case BYTE: {
+      long value = _scan(s, SOURCE_CHARS, 0, s.length(), false, Long.MIN_VALUE);
+      return value == Long.MIN_VALUE ? null : converter.fromLong(value);
+    }
+    case DOUBLE:
+    case NUMBER: {
+      long bits = _scan(s, SOURCE_CHARS, 0, s.length(), true, STRING_FAILED_BITS);
+      return bits == STRING_FAILED_BITS ? null : Double.valueOf(Double.longBitsToDouble(bits));
+    }
+    default:
+      return null;
+    }
+  }
+
+  // _scan 실패 표시(문자열로부터 NaN이 만들어지지 않음)
+  private static final long STRING_FAILED_BITS = Double.doubleToRawLongBits(Double.NaN);
+
+  private static final int DECIMAL_VALID = 1;
+  private static final int DECIMAL_INVALID = 0;
+  private static final int DECIMAL_UNKNOWN = -1;
+
+  /**
+   * 문자열이 BigDecimal(String) 생성자로 파싱 가능한 형식인지 확인한다.
+   * <p>
+   * [+-]?(숫자+(.숫자*)?|.숫자+)([eE][+-]?숫자+)? 형식이며, 지수와 scale이 int 범위 안이어야 한다.(JDK 8 기준)
+   * @param s 문자열
+   * @return DECIMAL_VALID, DECIMAL_INVALID 또는 DECIMAL_UNKNOWN(ASCII가 아닌 문자가 있는 경우)
+   */
+  private static int _checkDecimal(String s) {
+    int len = s.length();
+    int i = 0;
+    if (len > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+      i++;
+    }
+    int digits = 0;
+    int scale = 0;
+    boolean dot = false;
+    for (; i < len; i++) {
+      char c = s.charAt(i);
+      if (_isDigit(c)) {
+        digits++;
+        if (dot) {
+          scale++;
+        }
+      } else if (c == '.' && !dot) {
+        dot = true;
+      } else {
+        break;
+      }
+    }
+    if (i < len && s.charAt(i) > 0x7F) {
+      return DECIMAL_UNKNOWN;
+    }
+    if (digits == 0) {
+      return DECIMAL_INVALID;
+    }
+    if (i == len) {
+      return DECIMAL_VALID;
+    }
+    char e = s.charAt(i++);
+    if (e != 'e' && e != 'E') {
+      return DECIMAL_INVALID;
+    }
+    boolean negative = false;
+    if (i < len && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+      negative = s.charAt(i++) == '-';
+    }
+    int start = i;
+    while (i < len && s.charAt(i) == '0') {
+      i++;
+    }
+    long exponent = 0;
+    int significant = 0;
+    for (; i < len; i++) {
+      char c = s.charAt(i);
+      if (!_isDigit(c)) {
+        return c > 0x7F ? DECIMAL_UNKNOWN : DECIMAL_INVALID;
+      }
+      // BigDecimal: 0이 아닌 지수 자리수가 10을 넘으면 실패
+      if (++significant > 10) {
+        return DECIMAL_INVALID;
+      }
+      exponent = exponent * 10 + (c - '0');
+    }
+    if (i == start) {
+      return DECIMAL_INVALID;
+    }
+    if (negative) {
+      exponent = -exponent;
+    }
+    // 지수, scale 모두 int 범위여야 함
+    long adjustedScale = scale - exponent;
+    return exponent != (int) exponent || adjustedScale > Integer.MAX_VALUE || adjustedScale < Integer.MIN_VALUE ? DECIMAL_INVALID : DECIMAL_VALID;
+  }
+
+  // 2^53: 이보다 작은 double의 정수부는 long으로 정확히 표현되며, Double.toString 결과의 정수부와 같음
+  private static final double SAFE_INTEGER_BOUND = 9007199254740992d;
+
+  private static final Map<Class<?>, NumberConverter> CONVERTERS = new HashMap<>();
+  static {
+    for (NumberConverter converter : NumberConverter.values()) {
+      CONVERTERS.put(converter.target, converter);
+    }
+  }
+
+  /**
+   * 변환할 클래스별 변환 방법
+   * <p>
+   * 모든 변환은 값을 BigDecimal(입력값의 문자열)로 변환한 뒤 변환하는 것과 같은 결과를 만든다.
+   * <ul>
+   * <li>fromLong: 정수 입력(Integer, Long, Short, Byte)</li>
+   * <li>fromDouble: 2^53 미만의 유한한 double 입력(-0.0 제외)</li>
+   * <li>fromDecimal: 그 외</li>
+   * </ul>
+   * fromLong, fromDouble은 예외가 발생하지 않는다.
+   */
+  private enum NumberConverter {
+    INTEGER(Integer.class) {
+      @Override
+      Number fromLong(long value) {
+        return Integer.valueOf((int) value);
+      }
+
+      @Override
+      Number fromDouble(double value) {
+        return Integer.valueOf((int) (long) value);
+      }
+
+      @Override
+      Number fromDecimal(BigDecimal value) {
+        return Integer.valueOf(value.intValue());
+      }
+    },
+    LONG(Long.class) {
+      @Override
+      Number fromLong(long value) {
+        return Long.valueOf(value);
+      }
+
+      @Override
+      Number fromDouble(double value) {
+        return Long.valueOf((long) value);
+      }
+
+      @Override
+      Number fromDecimal(BigDecimal value) {
+        return Long.valueOf(value.longValue());
+      }
+    },
+    DOUBLE(Double.class) {
+      @Override
+      Number fromLong(long value) {
+        return Double.valueOf(value);
+      }
+
+      @Override
+      Number fromDouble(double value) {
+        return Double.valueOf(value);
+      }
+
+      @Override
+      Number fromDecimal(BigDecimal value) {
+        return Double.valueOf(value.doubleValue());
+      }
+    },
+    FLOAT(Float.class) {
+      @Override
+      Number fromLong(long value) {
+        return Float.valueOf(value);
+      }
+
+      @Override
+      Number fromDouble(double value) {
+        // double -> float 변환은 반올림이 두 번 일어날 수 있으므로 문자열 값 기준으로 변환
+        return fromDecimal(new BigDecimal(Double.toString(value)));
+      }
+
+      @Override
+      Number fromDecimal(BigDecimal value) {
+        return Float.valueOf(value.floatValue());
+      }
+    },
+    BYTE(Byte.class) {
+      @Override
+      Number fromLong(long value) {
+        return Byte.valueOf((byte) value);
+      }
+
+      @Override
+      Number fromDouble(double value) {
+        return Byte.valueOf((byte) (long) value);
+      }
+
+      @Override
+      Number fromDecimal(BigDecimal value) {
+        return Byte.valueOf(value.byteValue());
+      }
+    },
+    SHORT(Short.class) {
+      @Override
+      Number fromLong(long value) {
+        return Short.valueOf((short) value);
+      }
+
+      @Override
+      Number fromDouble(double value) {
+        return Short.valueOf((short) (long) value);
+      }
+
+      @Override
+      Number fromDecimal(BigDecimal value) {
+        return Short.valueOf(value.shortValue());
+      }
+    },
+    NUMBER(Number.class) {
+      @Override
+      Number fromLong(long value) {
+        return Double.valueOf(value);
+      }
+
+      @Override
+      Number fromDouble(double value) {
+        return Double.valueOf(value);
+      }
+
+      @Override
+      Number fromDecimal(BigDecimal value) {
+        return Double.valueOf(value.doubleValue());
+      }
+    },
+    BIG_DECIMAL(BigDecimal.class) {
+      @Override
+      Number fromLong(long value) {
+        return BigDecimal.valueOf((double) value);
+      }
+
+      @Override
+      Number fromDouble(double value) {
+        return BigDecimal.valueOf(value);
+      }
+
+      @Override
+      Number fromDecimal(BigDecimal value) {
+        return BigDecimal.valueOf(value.doubleValue());
+      }
+
+      @Override
+      Number tryFromDecimal(BigDecimal value) {
+        double d = value.doubleValue();
+        // double 범위를 벗어나는 경우(Infinity) valueOf에서 NumberFormatException 발생
+        return Double.isInfinite(d) ? null : BigDecimal.valueOf(d);
+      }
+    },
+    BIG_INTEGER(BigInteger.class) {
+      @Override
+      Number fromLong(long value) {
+        return BigInteger.valueOf(value);
+      }
+
+      @Override
+      Number fromDouble(double value) {
+        return BigInteger.valueOf((long) value);
+      }
+
+      @Override
+      Number fromDecimal(BigDecimal value) {
+        return BigInteger.valueOf(value.longValue());
+      }
+    };
+
+    private final Class<? extends Number> target;
+
+    NumberConverter(Class<? extends Number> target) {
+      this.target = target;
+    }
+
+    abstract Number fromLong(long value);
+
+    abstract Number fromDouble(double value);
+
+    abstract Number fromDecimal(BigDecimal value);
+
+    /**
+     * fromDecimal과 같으나, 변환할 수 없는 경우 예외 대신 null 리턴
+     */
+    Number tryFromDecimal(BigDecimal value) {
+      return fromDecimal(value);
+    }
+  }
+
+  /**
+   * 문자열을 long으로 변환(파싱)한다.
+   * <p>
+   * 유효숫자 18자리 이하인 경우 객체 생성 없이 바로 변환하며(소수부 버림, 지수 표기 포함),
+   * 그 외(큰 수 등)는 {@link #parse}와 같이 BigDecimal로 변환한다.
+   * <p>
+   * 변환 실패 시 또는 null값을 변환 시도할 경우 지정한 defaultValue을 리턴한다.
+   * @see #parseLong(CharSequence, int, int, long)
+   * @param s 변환할 문자열
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @return long으로 변환된 값 또는 defaultValue
+   */
+  public long parseLong(CharSequence s, long defaultValue) {
+    return s == null ? defaultValue : this.parseLong(s, 0, s.length(), defaultValue);
+  }
+
+  /**
+   * 문자열을 int로 변환(파싱)한다.
+   * <p>
+   * int 범위를 벗어나는 값은 {@link #parse}와 같이 하위 32bit만 사용한다.
+   * <p>
+   * 변환 실패 시 또는 null값을 변환 시도할 경우 지정한 defaultValue을 리턴한다.
+   * @see #parseInt(CharSequence, int, int, int)
+   * @param s 변환할 문자열
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @return int로 변환된 값 또는 defaultValue
+   */
+  public int parseInt(CharSequence s, int defaultValue) {
+    return s == null ? defaultValue : this.parseInt(s, 0, s.length(), defaultValue);
+  }
+
+  /**
+   * 문자열을 double로 변환(파싱)한다.
+   * <p>
+   * 유효숫자 19자리 이하인 경우 객체 생성 없이 가장 가까운 double로 바로 변환하며(Clinger, Eisel-Lemire),
+   * 그 외(결정할 수 없는 경우 포함)는 {@link #parse}와 같이 BigDecimal로 변환한다.
+   * <p>
+   * 변환 실패 시 또는 null값을 변환 시도할 경우 지정한 defaultValue을 리턴한다.
+   * @see #parseDouble(CharSequence, int, int, double)
+   * @param s 변환할 문자열
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @return double로 변환된 값 또는 defaultValue
+   */
+  public double parseDouble(CharSequence s, double defaultValue) {
+    return s == null ? defaultValue : this.parseDouble(s, 0, s.length(), defaultValue);
+  }
+
+  /**
+   * 문자열의 일부(off부터 len개)를 int로 변환(파싱)한다.
+   * <p>
+   * 결과는 {@code parse(s.subSequence(off, off + len), null, Integer.class)}와 같으며, 변환 실패 시 예외 대신 defaultValue를 리턴한다.
+   * @param s 문자열
+   * @param off 시작 위치
+   * @param len 길이
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @return int로 변환된 값 또는 defaultValue
+   * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+   */
+  public int parseInt(CharSequence s, int off, int len, int defaultValue) {
+    _checkRange(s.length(), off, len);
+    return (int) _scan(s, SOURCE_CHARS, off, len, false, defaultValue);
+  }
+
+  /**
+   * 문자열의 일부(off부터 len개)를 long으로 변환(파싱)한다.
+   * <p>
+   * 결과는 {@code parse(s.subSequence(off, off + len), null, Long.class)}와 같으며, 변환 실패 시 예외 대신 defaultValue를 리턴한다.
+   * @param s 문자열
+   * @param off 시작 위치
+   * @param len 길이
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @return long으로 변환된 값 또는 defaultValue
+   * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+   */
+  public long parseLong(CharSequence s, int off, int len, long defaultValue) {
+    _checkRange(s.length(), off, len);
+    return _scan(s, SOURCE_CHARS, off, len, false, defaultValue);
+  }
+
+  /**
+   * 문자열의 일부(off부터 len개)를 double로 변환(파싱)한다.
+   * <p>
+   * 결과는 {@code parse(s.subSequence(off, off + len), null, Double.class)}와 같으며, 변환 실패 시 예외 대신 defaultValue를 리턴한다.
+   * @param s 문자열
+   * @param off 시작 위치
+   * @param len 길이
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @return double로 변환된 값 또는 defaultValue
+   * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+   */
+  public double parseDouble(CharSequence s, int off, int len, double defaultValue) {
+    _checkRange(s.length(), off, len);
+    return Double.longBitsToDouble(_scan(s, SOURCE_CHARS, off, len, true, Double.doubleToRawLongBits(defaultValue)));
+  }
+
+  /**
+   * byte 배열의 일부(off부터 len개, UTF-8)를 int로 변환(파싱)한다.
+   * @see #parseInt(CharSequence, int, int, int)
+   * @param bytes byte 배열
+   * @param off 시작 위치
+   * @param len 길이
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @return int로 변환된 값 또는 defaultValue
+   * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+   */
+  public int parseInt(byte[] bytes, int off, int len, int defaultValue) {
+    _checkRange(bytes.length, off, len);
+    return (int) _scan(bytes, SOURCE_BYTES, off, len, false, defaultValue);
+  }
+
+  /**
+   * byte 배열의 일부(off부터 len개, UTF-8)를 long으로 변환(파싱)한다.
+   * @see #parseLong(CharSequence, int, int, long)
+   * @param bytes byte 배열
+   * @param off 시작 위치
+   * @param len 길이
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @return long으로 변환된 값 또는 defaultValue
+   * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+   */
+  public long parseLong(byte[] bytes, int off, int len, long defaultValue) {
+    _checkRange(bytes.length, off, len);
+    return _scan(bytes, SOURCE_BYTES, off, len, false, defaultValue);
+  }
+
+  /**
+   * byte 배열의 일부(off부터 len개, UTF-8)를 double로 변환(파싱)한다.
+   * @see #parseDouble(CharSequence, int, int, double)
+   * @param bytes byte 배열
+   * @param off 시작 위치
+   * @param len 길이
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @return double로 변환된 값 또는 defaultValue
+   * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+   */
+  public double parseDouble(byte[] bytes, int off, int len, double defaultValue) {
+    _checkRange(bytes.length, off, len);
+    return Double.longBitsToDouble(_scan(bytes, SOURCE_BYTES, off, len, true, Double.doubleToRawLongBits(defaultValue)));
+  }
+
+  /**
+   * ByteBuffer의 일부(절대 위치 off부터 len개, UTF-8)를 int로 변환(파싱)한다.
+   * <p>
+   * buffer의 position, limit은 변경하지 않는다.
+   * @see #parseInt(CharSequence, int, int, int)
+   * @param buffer ByteBuffer
+   * @param off 시작 위치(절대 위치)
+   * @param len 길이
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @return int로 변환된 값 또는 defaultValue
+   * @throws IndexOutOfBoundsException 범위(limit)를 벗어난 경우
+   */
+  public int parseInt(ByteBuffer buffer, int off, int len, int defaultValue) {
+    _checkRange(buffer.limit(), off, len);
+    return (int) _scan(buffer, SOURCE_BUFFER, off, len, false, defaultValue);
+  }
+
+  /**
+   * ByteBuffer의 일부(절대 위치 off부터 len개, UTF-8)를 long으로 변환(파싱)한다.
+   * <p>
+   * buffer의 position, limit은 변경하지 않는다.
+   * @see #parseLong(CharSequence, int, int, long)
+   * @param buffer ByteBuffer
+   * @param off 시작 위치(절대 위치)
+   * @param len 길이
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @return long으로 변환된 값 또는 defaultValue
+   * @throws IndexOutOfBoundsException 범위(limit)를 벗어난 경우
+   */
+  public long parseLong(ByteBuffer buffer, int off, int len, long defaultValue) {
+    _checkRange(buffer.limit(), off, len);
+    return _scan(buffer, SOURCE_BUFFER, off, len, false, defaultValue);
+  }
+
+  /**
+   * ByteBuffer의 일부(절대 위치 off부터 len개, UTF-8)를 double로 변환(파싱)한다.
+   * <p>
+   * buffer의 position, limit은 변경하지 않는다.
+   * @see #parseDouble(CharSequence, int, int, double)
+   * @param buffer ByteBuffer
+   * @param off 시작 위치(절대 위치)
+   * @param len 길이
+   * @param defaultValue 변환 실패시 리턴받을 기본값
+   * @return double로 변환된 값 또는 defaultValue
+   * @throws IndexOutOfBoundsException 범위(limit)를 벗어난 경우
+   */
+  public double parseDouble(ByteBuffer buffer, int off, int len, double defaultValue) {
+    _checkRange(buffer.limit(), off, len);
+    return Double.longBitsToDouble(_scan(buffer, SOURCE_BUFFER, off, len, true, Double.doubleToRawLongBits(defaultValue)));
+  }
+
+  /**
+   * 배열의 값들을 double로 변환(파싱)하여 dst에 담는다.
+   * <p>
+   * 각 값은 {@code tryParse(value, null, Double.class)}와 같은 결과이며,
+   * null이거나 변환할 수 없는 값은 missing으로 채우고 개수를 센다.(예외 없음)
+   * <p>
+   * Double, 정수(Integer, Long, Short, Byte), 문자열(CharSequence)은 boxing, 문자열 생성 없이 변환한다.
+   * @param src 변환할 값 배열
+   * @param dst 결과 배열(src 이상의 길이)
+   * @param missing null, 변환 실패 시 넣을 값
+   * @return 변환 실패(null 포함) 개수
+   * @throws IllegalArgumentException dst가 src보다 짧은 경우
+   */
+  public int parseDoubles(Object[] src, double[] dst, double missing) {
+    return this.parseDoubles(src, dst, missing, null);
+  }
+
+  /**
+   * 배열의 값들을 double로 변환(파싱)하여 dst에 담고, 변환 실패 위치를 bitmap에 표시한다.
+   * @see #parseDoubles(Object[], double[], double)
+   * @param src 변환할 값 배열
+   * @param dst 결과 배열(src 이상의 길이)
+   * @param missing null, 변환 실패 시 넣을 값
+   * @param failures 변환 실패(null 포함) 위치 bitmap(i번째 값: failures[i &gt;&gt; 6]의 (i &amp; 63)번째 bit), null이면 표시하지 않음
+   * @return 변환 실패(null 포함) 개수
+   * @throws IllegalArgumentException dst, failures가 src보다 짧은 경우
+   */
+  public int parseDoubles(Object[] src, double[] dst, double missing, long[] failures) {
+    _checkBulk(src.length, dst.length, failures);
+    int failed = 0;
+    for (int i = 0; i < src.length; i++) {
+      double value = _toDouble(src[i]);
+      if (value != value) {
+        // NaN: 변환 실패(변환 결과는 NaN이 될 수 없음)
+        dst[i] = missing;
+        failed++;
+        if (failures != null) {
+          failures[i >>> 6] |= 1L << i;
+        }
+      } else {
+        dst[i] = value;
+      }
+    }
+    return failed;
+  }
+
+  /**
+   * List의 값들을 double로 변환(파싱)하여 dst에 담는다.
+   * @see #parseDoubles(Object[], double[], double)
+   * @param src 변환할 값 List
+   * @param dst 결과 배열(src 이상의 길이)
+   * @param missing null, 변환 실패 시 넣을 값
+   * @return 변환 실패(null 포함) 개수
+   * @throws IllegalArgumentException dst가 src보다 짧은 경우
+   */
+  public int parseDoubles(List<?> src, double[] dst, double missing) {
+    return this.parseDoubles(src.toArray(), dst, missing, null);
+  }
+
+  /**
+   * List의 값들을 double로 변환(파싱)하여 dst에 담고, 변환 실패 위치를 bitmap에 표시한다.
+   * @see #parseDoubles(Object[], double[], double, long[])
+   * @param src 변환할 값 List
+   * @param dst 결과 배열(src 이상의 길이)
+   * @param missing null, 변환 실패 시 넣을 값
+   * @param failures 변환 실패(null 포함) 위치 bitmap, null이면 표시하지 않음
+   * @return 변환 실패(null 포함) 개수
+   * @throws IllegalArgumentException dst, failures가 src보다 짧은 경우
+   */
+  public int parseDoubles(List<?> src, double[] dst, double missing, long[] failures) {
+    return this.parseDoubles(src.toArray(), dst, missing, failures);
+  }
+
+  /**
+   * 배열의 값들을 long으로 변환(파싱)하여 dst에 담는다.
+   * <p>
+   * 각 값은 {@code tryParse(value, null, Long.class)}와 같은 결과이며,
+   * null이거나 변환할 수 없는 값은 missing으로 채우고 개수를 센다.(예외 없음)
+   * <p>
+   * 정수(Integer, Long, Short, Byte), Double, 문자열(CharSequence)은 boxing, 문자열 생성 없이 변환한다.
+   * @param src 변환할 값 배열
+   * @param dst 결과 배열(src 이상의 길이)
+   * @param missing null, 변환 실패 시 넣을 값
+   * @return 변환 실패(null 포함) 개수
+   * @throws IllegalArgumentException dst가 src보다 짧은 경우
+   */
+  public int parseLongs(Object[] src, long[] dst, long missing) {
+    return this.parseLongs(src, dst, missing, null);
+  }
+
+  /**
+   * 배열의 값들을 long으로 변환(파싱)하여 dst에 담고, 변환 실패 위치를 bitmap에 표시한다.
+   * @see #parseLongs(Object[], long[], long)
+   * @param src 변환할 값 배열
+   * @param dst 결과 배열(src 이상의 길이)
+   * @param missing null, 변환 실패 시 넣을 값
+   * @param failures 변환 실패(null 포함) 위치 bitmap(i번째 값: failures[i &gt;&gt; 6]의 (i &amp; 63)번째 bit), null이면 표시하지 않음
+   * @return 변환 실패(null 포함) 개수
+   * @throws IllegalArgumentException dst, failures가 src보다 짧은 경우
+   */
+  public int parseLongs(Object[] src, long[] dst, long missing, long[] failures) {
+    _checkBulk(src.length, dst.length, failures);
+    int failed = 0;
+    for (int i = 0; i < src.length; i++) {
+      Object o = src[i];
+      Class<?> c = o == null ? null : o.getClass();
+      if (c == Long.class || c == Integer.class || c == Short.class || c == Byte.class) {
+        dst[i] = ((Number) o).longValue();
+        continue;
+      }
+      long value;
+      boolean ok;
+      if (o instanceof CharSequence) {
+        CharSequence s = (CharSequence) o;
+        // 모든 long이 유효한 값이므로, 서로 다른 두 기본값으로 실패 여부를 확인(두 번째 scan은 결과가 기본값과 같을 때만)
+        value = _scan(s, SOURCE_CHARS, 0, s.length(), false, Long.MIN_VALUE);
+        ok = value != Long.MIN_VALUE || _scan(s, SOURCE_CHARS, 0, s.length(), false, Long.MAX_VALUE) != Long.MAX_VALUE;
+      } else if (c == Double.class && Math.abs((Double) o) < SAFE_INTEGER_BOUND) {
+        value = (long) (double) (Double) o;
+        ok = true;
+      } else {
+        Long parsed = this._tryParse(o, Long.class);
+        value = parsed == null ? 0 : parsed;
+        ok = parsed != null;
+      }
+      if (ok) {
+        dst[i] = value;
+      } else {
+        dst[i] = missing;
+        failed++;
+        if (failures != null) {
+          failures[i >>> 6] |= 1L << i;
+        }
+      }
+    }
+    return failed;
+  }
+
+  /**
+   * List의 값들을 long으로 변환(파싱)하여 dst에 담는다.
+   * @see #parseLongs(Object[], long[], long)
+   * @param src 변환할 값 List
+   * @param dst 결과 배열(src 이상의 길이)
+   * @param missing null, 변환 실패 시 넣을 값
+   * @return 변환 실패(null 포함) 개수
+   * @throws IllegalArgumentException dst가 src보다 짧은 경우
+   */
+  public int parseLongs(List<?> src, long[] dst, long missing) {
+    return this.parseLongs(src.toArray(), dst, missing, null);
+  }
+
+  /**
+   * List의 값들을 long으로 변환(파싱)하여 dst에 담고, 변환 실패 위치를 bitmap에 표시한다.
+   * @see #parseLongs(Object[], long[], long, long[])
+   * @param src 변환할 값 List
+   * @param dst 결과 배열(src 이상의 길이)
+   * @param missing null, 변환 실패 시 넣을 값
+   * @param failures 변환 실패(null 포함) 위치 bitmap, null이면 표시하지 않음
+   * @return 변환 실패(null 포함) 개수
+   * @throws IllegalArgumentException dst, failures가 src보다 짧은 경우
+   */
+  public int parseLongs(List<?> src, long[] dst, long missing, long[] failures) {
+    return this.parseLongs(src.toArray(), dst, missing, failures);
+  }
+
+  private static void _checkBulk(int srcLength, int dstLength, long[] failures) {
+    if (dstLength < srcLength) {
+      throw new IllegalArgumentException("dst is shorter than src: " + dstLength + " < " + srcLength);
+    }
+    if (failures != null) {
+      int words = (srcLength + 63) >>> 6;
+      if (failures.length < words) {
+        throw new IllegalArgumentException("failures is shorter than " + words);
+      }
+      Arrays.fill(failures, 0, words, 0L);
+    }
+  }
+
+  /**
+   * 값을 double로 변환
+   * @param o 값
+   * @return double 값 또는 NaN(null, 변환 실패)
+   */
+  private double _toDouble(Object o) {
+    if (o == null) {
+      return Double.NaN;
+    }
+    Class<?> c = o.getClass();
+    if (c == Double.class) {
+      double value = (Double) o;
+      // NaN, Infinity는 변환 실패, -0.0은 0.0(BigDecimal 기준)
+      return value - value == 0 ? (value == 0 ? 0.0 : value) : Double.NaN;
+    } else if (c == Integer.class || c == Long.class || c == Short.class || c == Byte.class) {
+      return ((Number) o).longValue();
+    } else if (o instanceof CharSequence) {
+      CharSequence s = (CharSequence) o;
+      return Double.longBitsToDouble(_scan(s, SOURCE_CHARS, 0, s.length(), true, Double.doubleToRawLongBits(Double.NaN)));
+    }
+    Double parsed = this._tryParse(o, Double.class);
+    return parsed == null ? Double.NaN : parsed;
+  }
+
+  private static final int SOURCE_CHARS = 0;
+  private static final int SOURCE_BYTES = 1;
+  private static final int SOURCE_BUFFER = 2;
+
+  private static final long[] LONG_POWERS_OF_TEN = {
+    1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+    10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+    1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L
+  };
+
+  private static void _checkRange(int length, int off, int len) {
+    if (off < 0 || len < 0 || off > length - len) {
+      throw new IndexOutOfBoundsException("off: " + off + ", len: " + len + ", length: " + length);
+    }
+  }
+
+  private static int _charAt(Object source, int type, int index) {
+    switch (type) {
+    case SOURCE_CHARS:
+      return ((CharSequence) source).charAt(index);
+    case SOURCE_BYTES:
+      return ((byte[]) source)[index] & 0xFF;
+    default:
+      return ((ByteBuffer) source).get(index) & 0xFF;
+    }
+  }
+
+  /**
+   * 입력의 일부를 BigDecimal 형식으로 읽어 long 또는 double(bit)로 변환한다.
+   * <p>
+   * 형식 확인은 {@link #_checkDecimal(String)}과 같으며, 유효숫자 19자리까지 mantissa(unsigned long)에 담고 나머지는 지수로 옮긴다.
+   * 바로 변환할 수 없는 경우(큰 수, 반올림 경계, ASCII가 아닌 문자 등)만 문자열을 만들어 BigDecimal로 변환한다.
+   * @param source CharSequence, byte[] 또는 ByteBuffer
+   * @param type source 종류
+   * @param off 시작 위치
+   * @param len 길이
+   * @param toDouble true: double(Double.doubleToRawLongBits), false: long
+   * @param defaultValue 변환 실패 시 리턴할 값(toDouble인 경우 bit)
+   * @return 변환된 값
+   */
+  private static long _scan(Object source, int type, int off, int len, boolean toDouble, long defaultValue) {
+    int end = off + len;
+    int i = off;
+    boolean negative = false;
+    if (i < end) {
+      int c = _charAt(source, type, i);
+      if (c == '-' || c == '+') {
+        negative = c == '-';
+        i++;
+      }
+    }
+    long mantissa = 0;
+    // mantissa에 담긴 유효숫자 수(앞쪽 0 제외)
+    int significant = 0;
+    int digits = 0;
+    int scale = 0;
+    // mantissa × 10^exponent
+    long exponent = 0;
+    boolean dot = false;
+    boolean truncated = false;
+    for (; i < end; i++) {
+      int c = _charAt(source, type, i);
+      if (c >= '0' && c <= '9') {
+        digits++;
+        if (dot) {
+          scale++;
+        }
+        if (significant < 19) {
+          mantissa = mantissa * 10 + (c - '0');
+          if (mantissa != 0) {
+            significant++;
+          }
+          if (dot) {
+            exponent--;
+          }
+        } else {
+          if (!dot) {
+            exponent++;
+          }
+          truncated |= c != '0';
+        }
+      } else if (c == '.' && !dot) {
+        dot = true;
+      } else {
+        break;
+      }
+    }
+    if (i < end) {
+      int c = _charAt(source, type, i++);
+      if (c > 0x7F) {
+        return _scanSlow(source, type, off, len, toDouble, defaultValue);
+      } else if ((c != 'e' && c != 'E') || digits == 0) {
+        return defaultValue;
+      }
+      boolean negativeExponent = false;
+      if (i < end) {
+        c = _charAt(source, type, i);
+        if (c == '-' || c == '+') {
+          negativeExponent = c == '-';
+          i++;
+        }
+      }
+      int start = i;
+      while (i < end && _charAt(source, type, i) == '0') {
+        i++;
+      }
+      long value = 0;
+      for (int count = 0; i < end; i++) {
+        c = _charAt(source, type, i);
+        if (c < '0' || c > '9') {
+          return c > 0x7F ? _scanSlow(source, type, off, len, toDouble, defaultValue) : defaultValue;
+        } else if (++count > 10) {
+          // BigDecimal: 0이 아닌 지수 자리수가 10을 넘으면 실패
+          return defaultValue;
+        }
+        value = value * 10 + (c - '0');
+      }
+      if (i == start) {
+        return defaultValue;
+      }
+      if (negativeExponent) {
+        value = -value;
+      }
+      // 지수, scale 모두 int 범위여야 함
+      long adjustedScale = scale - value;
+      if (value != (int) value || adjustedScale != (int) adjustedScale) {
+        return defaultValue;
+      }
+      exponent += value;
+    } else if (digits == 0) {
       return defaultValue;
-    } else if ("java.lang.Integer".equals(_class.getCanonicalName())) {
-      return _class.cast(Integer.valueOf(_number.intValue()));
-    } else if ("java.lang.Long".equals(_class.getCanonicalName())) {
-      return _class.cast(Long.valueOf(_number.longValue()));
-    } else if ("java.lang.Double".equals(_class.getCanonicalName())) {
-      return _class.cast(Double.valueOf(_number.doubleValue()));
-    } else if ("java.lang.Float".equals(_class.getCanonicalName())) {
-      return _class.cast(Float.valueOf(_number.floatValue()));
-    } else if ("java.lang.Byte".equals(_class.getCanonicalName())) {
-      return _class.cast(Byte.valueOf(_number.byteValue()));
-    } else if ("java.lang.Short".equals(_class.getCanonicalName())) {
-      return _class.cast(Short.valueOf(_number.shortValue()));
-    } else if ("java.lang.Number".equals(_class.getCanonicalName())) {
-      return _class.cast(Double.valueOf(_number.doubleValue()));
-    } else if ("java.math.BigDecimal".equals(_class.getCanonicalName())) {
-      return _class.cast(BigDecimal.valueOf(_number.doubleValue()));
-    } else if ("java.math.BigInteger".equals(_class.getCanonicalName())) {
-      return _class.cast(BigInteger.valueOf(_number.longValue()));
+    }
+
+    if (toDouble) {
+      if (mantissa == 0) {
+        // BigDecimal에는 -0이 없음
+        return Double.doubleToRawLongBits(0.0);
+      }
+      if (!truncated && exponent == (int) exponent) {
+        double value = DoubleConversion.toDouble(negative, mantissa, (int) exponent);
+        if (!Double.isNaN(value)) {
+          return Double.doubleToRawLongBits(value);
+        }
+      }
     } else {
-      // It will be error(ClassCastException)!
-      return _class.cast(_number);
+      if (mantissa == 0) {
+        return 0;
+      }
+      if (significant <= 18) {
+        if (exponent < -18) {
+          return 0;
+        } else if (exponent < 0) {
+          long value = mantissa / LONG_POWERS_OF_TEN[(int) -exponent];
+          return negative ? -value : value;
+        } else if (exponent <= 18 && mantissa <= Long.MAX_VALUE / LONG_POWERS_OF_TEN[(int) exponent]) {
+          long value = mantissa * LONG_POWERS_OF_TEN[(int) exponent];
+          return negative ? -value : value;
+        }
+      }
+    }
+    return _scanSlow(source, type, off, len, toDouble, defaultValue);
+  }
+
+  private static long _scanSlow(Object source, int type, int off, int len, boolean toDouble, long defaultValue) {
+    String s;
+    switch (type) {
+    case SOURCE_CHARS:
+      s = ((CharSequence) source).subSequence(off, off + len).toString();
+      break;
+    case SOURCE_BYTES:
+      s = new String((byte[]) source, off, len, StandardCharsets.UTF_8);
+      break;
+    default:
+      byte[] bytes = new byte[len];
+      for (int i = 0; i < len; i++) {
+        bytes[i] = ((ByteBuffer) source).get(off + i);
+      }
+      s = new String(bytes, StandardCharsets.UTF_8);
     }
+    try {
+      BigDecimal number = new BigDecimal(s);
+      return toDouble ? Double.doubleToRawLongBits(number.doubleValue()) : number.longValue();
+    } catch (NumberFormatException e) {
+      return defaultValue;
+    }
+  }
+
+  private static boolean _isDigit(char c) {
+    return c >= '0' && c <= '9';
   }
 
   /**
@@ -341,7 +1327,94 @@ public class NumberHelper {
    * @return 소수점 p+1번째 자리에서 반올림된 값
    */
   public <T extends Number> Number round(T number, Integer p) {
-    return Double.valueOf(BigDecimal.valueOf(number.doubleValue()).setScale(p, RoundingMode.HALF_UP).doubleValue());
+    return Double.valueOf(this.roundDouble(number.doubleValue(), p));
+  }
+
+  /**
+   * double 값의 소수점 p+1번째 자리에서 반올림한다.(HALF_UP)
+   * <p>
+   * {@link #round(Number, Integer)}와 같은 결과를 boxing 없이 리턴하며,
+   * 결과는 {@code BigDecimal.valueOf(d).setScale(p, RoundingMode.HALF_UP).doubleValue()}와 같다.
+   * (값의 문자열 표현(Double.toString) 기준으로 반올림하므로, 2.675는 2.68이 됨)
+   * <p>
+   * |p| &lt;= 22인 경우 10^p를 곱한 값으로 바로 계산하며(객체 생성 없음),
+   * 반올림 경계(.5)에 가까워 오차로 결과가 달라질 수 있는 경우와 그 외의 경우만 BigDecimal로 계산한다.
+   * @param d 값
+   * @param p 반올림할 소수점 자리수(음수: 정수부 자리)
+   * @return 반올림된 값(0인 경우 0.0)
+   * @throws NumberFormatException d가 NaN 또는 Infinity인 경우
+   */
+  public double roundDouble(double d, int p) {
+    if (p >= -22 && p <= 22) {
+      double result = _roundFast(d, p, p >= 0 ? ROUND_POWERS_OF_TEN[p] : ROUND_POWERS_OF_TEN[-p]);
+      if (result == result) {
+        return result;
+      }
+    }
+    return _roundSlow(d, p);
+  }
+
+  /**
+   * 배열의 값들을 소수점 p+1번째 자리에서 반올림하여 out에 담는다.(HALF_UP)
+   * @see #roundDouble(double, int)
+   * @param in 값 배열
+   * @param out 결과 배열(in 이상의 길이, in과 같은 배열도 가능)
+   * @param p 반올림할 소수점 자리수(음수: 정수부 자리)
+   * @throws IllegalArgumentException out이 in보다 짧은 경우
+   * @throws NumberFormatException 값 중 NaN 또는 Infinity가 있는 경우
+   */
+  public void round(double[] in, double[] out, int p) {
+    if (out.length < in.length) {
+      throw new IllegalArgumentException("out is shorter than in: " + out.length + " < " + in.length);
+    }
+    if (p < -22 || p > 22) {
+      for (int i = 0; i < in.length; i++) {
+        out[i] = _roundSlow(in[i], p);
+      }
+      return;
+    }
+    double power = p >= 0 ? ROUND_POWERS_OF_TEN[p] : ROUND_POWERS_OF_TEN[-p];
+    for (int i = 0; i < in.length; i++) {
+      double result = _roundFast(in[i], p, power);
+      out[i] = result == result ? result : _roundSlow(in[i], p);
+    }
+  }
+
+  private static final double[] ROUND_POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  /**
+   * 10^|p|(double로 정확한 값)를 곱하거나 나누어 반올림
+   * <p>
+   * Double.toString 값과 d의 차이, 곱셈(나눗셈) 오차는 합쳐도 scaled의 2ulp 미만이므로,
+   * 소수부가 0.5에서 4ulp 이상 떨어져 있으면 BigDecimal과 같은 결과가 된다.
+   * 정수 N과 10^|p|의 나눗셈(곱셈)은 한 번의 반올림(correct rounding)이므로 BigDecimal.doubleValue와 같다.
+   * @return 반올림된 값 또는 NaN(BigDecimal로 계산해야 하는 경우)
+   */
+  private static double _roundFast(double d, int p, double power) {
+    double scaled = p >= 0 ? Math.abs(d) * power : Math.abs(d) / power;
+    // NaN, Infinity, 2^52 이상(정수부만 표현 가능)은 BigDecimal로 계산
+    if (!(scaled < 4503599627370496d)) {
+      return Double.NaN;
+    }
+    double floor = Math.floor(scaled);
+    double fraction = scaled - floor;
+    if (Math.abs(fraction - 0.5) <= 4 * Math.ulp(scaled)) {
+      return Double.NaN;
+    }
+    double n = fraction > 0.5 ? floor + 1 : floor;
+    if (n == 0) {
+      // BigDecimal에는 -0이 없음
+      return 0.0;
+    }
+    double result = p >= 0 ? n / power : n * power;
+    return d < 0 ? -result : result;
+  }
+
+  private static double _roundSlow(double d, int p) {
+    return BigDecimal.valueOf(d).setScale(p, RoundingMode.HALF_UP).doubleValue();
   }
 
 }
@@ -0,0 +1,128 @@
+package io.github.saintkim12.mycore.number;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.saintkim12.mycore.number.helper.NumberHelper;
+
+/**
+ * NumberHelper 주요 경로의 호출당 할당량(bytes) 상한 확인
+ * <p>
+ * 충분히 반복(JIT 컴파일)한 뒤 현재 thread의 할당량(com.sun.management.ThreadMXBean)을 측정한다.
+ * 할당량 측정을 지원하지 않는 JVM에서는 건너뛴다.
+ * <p>
+ * 상한(budget)은 결과 객체(boxing) 크기 기준이다.
+ * 객체 크기는 JVM 설정(compressed oops 등)에 따라 다르므로, Integer, Long, Double 객체 하나의 할당량을 먼저 측정하여 사용한다.
+ */
+public class AllocationBudgetTest {
+  private static final int WARMUP = 20_000;
+  private static final int ITERATIONS = 10_000;
+  private static final int ROUNDS = 5;
+
+  // 결과가 제거(dead code)되지 않도록 보관
+  static Object sink;
+  static long sinkLong;
+  // 기준 객체 생성에 사용(cache되지 않는 값)
+  static int intSeed = 123456;
+  static long longSeed = 12345678901L;
+  static double doubleSeed = 1234.5678d;
+
+  // 객체 하나의 할당량(bytes)
+  private static long integerBytes;
+  private static long longBytes;
+  private static long doubleBytes;
+
+  private final NumberHelper helper = NumberHelper.getInstance();
+  // 입력값의 boxing이 측정에 포함되지 않도록 미리 생성
+  private final Integer integerValue = 123456;
+  private final Double doubleValue = 1234.5678d;
+  private final BigDecimal decimalValue = BigDecimal.valueOf(1234.5678d);
+
+  @Before
+  public void setUp() {
+    Assume.assumeTrue(isAllocationMeasurable());
+    if (integerBytes == 0) {
+      integerBytes = bytesPerCall(() -> sink = Integer.valueOf(intSeed));
+      longBytes = bytesPerCall(() -> sink = Long.valueOf(longSeed));
+      doubleBytes = bytesPerCall(() -> sink = Double.valueOf(doubleSeed));
+    }
+  }
+
+  @Test
+  public void testParseAllocation() {
+    assertAllocation("parse(Integer, Integer)", 0, () -> sink = helper.parse(integerValue, null, Integer.class));
+    assertAllocation("parse(Integer, Long)", longBytes, () -> sink = helper.parse(integerValue, null, Long.class));
+    assertAllocation("parse(Double, Double)", doubleBytes, () -> sink = helper.parse(doubleValue, null, Double.class));
+    assertAllocation("parse(String, Integer)", integerBytes, () -> sink = helper.parse("123456", null, Integer.class));
+    assertAllocation("parse(String, Long)", longBytes, () -> sink = helper.parse("12345678901", null, Long.class));
+    assertAllocation("parse(String, Double)", doubleBytes, () -> sink = helper.parse("1234.5678", null, Double.class));
+    assertAllocation("parse(BigDecimal, Double)", doubleBytes, () -> sink = helper.parse(decimalValue, null, Double.class));
+  }
+
+  @Test
+  public void testTryParseAllocation() {
+    assertAllocation("tryParseInteger(String)", integerBytes, () -> sink = helper.tryParseInteger("123456"));
+    assertAllocation("tryParseDouble(String)", doubleBytes, () -> sink = helper.tryParseDouble("1234.5678"));
+    assertAllocation("tryParseInteger(invalid)", 0, () -> sink = helper.tryParseInteger("N/A", -1));
+    assertAllocation("tryParseDouble(invalid)", 0, () -> sink = helper.tryParseDouble("1.2.3"));
+  }
+
+  @Test
+  public void testPrimitiveParseAllocation() {
+    assertAllocation("parseInt(CharSequence)", 0, () -> sinkLong += helper.parseInt("123456", -1));
+    assertAllocation("parseLong(CharSequence)", 0, () -> sinkLong += helper.parseLong("12345678901", -1));
+    assertAllocation("parseDouble(CharSequence)", 0, () -> sinkLong += (long) helper.parseDouble("1234.5678", -1));
+    assertAllocation("roundDouble", 0, () -> sinkLong += (long) helper.roundDouble(1234.5678d, 2));
+  }
+
+  /**
+   * 호출당 할당량이 budget 이하인지 확인
+   * @param name 측정 대상 이름
+   * @param budget 호출당 최대 할당량(bytes)
+   * @param call 측정할 호출
+   */
+  static void assertAllocation(String name, long budget, Runnable call) {
+    long bytes = bytesPerCall(call);
+    assertTrue(name + ": " + bytes + " bytes/call (budget " + budget + ")", bytes <= budget);
+  }
+
+  /**
+   * 반복 호출 후 호출당 평균 할당량(bytes)
+   * <p>
+   * 측정 중 JIT 재컴파일(deoptimization)이 일어나면 그동안 제거되지 않은 임시 객체가 함께 측정되므로,
+   * 여러 번 측정하여 가장 작은 값을 리턴한다.
+   * @param call 측정할 호출
+   * @return 호출당 할당량
+   */
+  static long bytesPerCall(Runnable call) {
+    for (int i = 0; i < WARMUP; i++) {
+      call.run();
+    }
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long id = Thread.currentThread().getId();
+    long min = Long.MAX_VALUE;
+    for (int round = 0; round < ROUNDS; round++) {
+      long before = threads.getThreadAllocatedBytes(id);
+      for (int i = 0; i < ITERATIONS; i++) {
+        call.run();
+      }
+      long after = threads.getThreadAllocatedBytes(id);
+      min = Math.min(min, (after - before) / ITERATIONS);
+    }
+    return min;
+  }
+
+  private static boolean isAllocationMeasurable() {
+    if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+      return false;
+    }
+    com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    return threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+  }
+}
@@ -1,9 +1,29 @@
 package io.github.saintkim12.mycore.number;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
+import io.github.saintkim12.mycore.metrics.InMemoryMetricsRecorder;
+import io.github.saintkim12.mycore.metrics.Metrics;
 import io.github.saintkim12.mycore.number.helper.NumberHelper;
 
 public class NumberHelperTest {
@@ -18,4 +38,238 @@ public class NumberHelperTest {
   public void testNumberHelperParse() {
     assertEquals(Integer.valueOf(3), NumberHelper.getInstance().tryParseInteger(Math.PI));
   }
+  @Test
+  public void testNumberHelperParsePrimitive() {
+    NumberHelper helper = NumberHelper.getInstance();
+    assertEquals(123, helper.parseInt("123", -1));
+    assertEquals(-1, helper.parseInt("-1.9", 0));
+    assertEquals(1000, helper.parseInt("1e3", -1));
+    assertEquals(-1, helper.parseInt("abc", -1));
+    assertEquals(-1, helper.parseInt(null, -1));
+    assertEquals(-1, helper.parseInt("", -1));
+    assertEquals(-1, helper.parseInt(".", -1));
+    assertEquals(new BigDecimal("4294967297").intValue(), helper.parseInt("4294967297", -1));
+    assertEquals(Long.MAX_VALUE, helper.parseLong("9223372036854775807", -1));
+    assertEquals(new BigDecimal("99999999999999999999").longValue(), helper.parseLong("99999999999999999999", -1));
+    assertEquals(5L, helper.parseLong("+5.", -1));
+    for (String s : new String[] { "0.1", "-2.5", "3.14159", "123456789.123456", ".5", "1e-5", "0.30000000000000004",
+        "1234567890123456789", "0.000000000000000000000001", "-0" }) {
+      assertEquals(s, new BigDecimal(s).doubleValue(), helper.parseDouble(s, Double.NaN), 0);
+    }
+    assertEquals(Double.doubleToLongBits(0.0), Double.doubleToLongBits(helper.parseDouble("-0.0", 1)));
+    assertEquals(-1, helper.parseDouble("NaN", -1), 0);
+  }
+  @Test
+  public void testNumberHelperParseConversion() {
+    Object[] sources = { 0, -7, Integer.MAX_VALUE, Long.MIN_VALUE, 10000000000L, (short) 300, (byte) -3, 1.9d, -2.5d, -0.0d,
+        1e10, 1e23, 0.1d, 123456.789d, 1.1f, "3.5", "-1e3", new BigDecimal("12.345"), new BigDecimal("1E+3"),
+        new BigInteger("123456789012345678901234567890") };
+    List<Class<? extends Number>> targets = Arrays.asList(Integer.class, Long.class, Double.class, Float.class,
+        Byte.class, Short.class, Number.class, BigDecimal.class, BigInteger.class);
+    NumberHelper helper = NumberHelper.getInstance();
+    for (Object source : sources) {
+      for (Class<? extends Number> target : targets) {
+        assertEquals(source + " -> " + target.getSimpleName(), legacyParse(source, target), helper.parse(source, null, target));
+      }
+    }
+    assertEquals(null, helper.parse(null, null, Integer.class));
+    assertThrows(NumberFormatException.class, () -> helper.parse(Double.NaN, null, Double.class));
+    assertThrows(NumberFormatException.class, () -> helper.parse("x", null, Integer.class));
+    assertThrows(ClassCastException.class, () -> helper.parse(1, null, AtomicInteger.class));
+  }
+
+  @Test
+  public void testNumberHelperTryParse() {
+    String[] inputs = { "", "+", "-", ".", "1.", ".5", "-.5", "+1", "1.2.3", "1e", "1e+", "1e-3", "1E+03", "1e0005",
+        "e5", ".e5", "1.e5", " 1", "1 ", "1,000", "0x10", "NaN", "Infinity", "1f", "1d", "12345678901234567890.5",
+        "1e2147483647", "1e2147483648", "1e-2147483647", "1e-2147483648", "1.5e-2147483647", "1e99999999999",
+        "1e00000000000000000001", "\u0661\u0662", "1\u0661", "N/A", "-", "--1", "1-" };
+    NumberHelper helper = NumberHelper.getInstance();
+    for (String input : inputs) {
+      for (Class<? extends Number> target : Arrays.asList(Integer.class, Long.class, Double.class, BigDecimal.class)) {
+        Number expected;
+        try {
+          expected = helper.parse(input, null, target);
+        } catch (NumberFormatException e) {
+          expected = null;
+        }
+        assertEquals(input + " -> " + target.getSimpleName(), expected, helper.tryParse(input, null, target));
+      }
+    }
+    assertEquals(Integer.valueOf(-1), helper.tryParseInteger("x", -1));
+    assertEquals(Integer.valueOf(-1), helper.tryParse(Double.NaN, -1, Integer.class));
+    assertEquals(null, helper.tryParse(1, null, AtomicInteger.class));
+  }
+
+  @Test
+  public void testNumberHelperParseSlice() {
+    NumberHelper helper = NumberHelper.getInstance();
+    List<String> inputs = new ArrayList<>(Arrays.asList("4.9e-324", "2.4703282292062327e-324", "2.2250738585072011e-308",
+        "1.7976931348623157e308", "1.7976931348623159e308", "9007199254740993", "2.00000000000000011102230246251565404236316680908203125",
+        "1e23", "8.41e21", "0.1", "1e-400", "-1e-400", "1e400", "-0", "18446744073709551616", "1e00000000003", "x", "1e"));
+    Random random = new Random(0);
+    for (int i = 0; i < 20000; i++) {
+      double value = Double.longBitsToDouble(random.nextLong());
+      inputs.add(Double.isNaN(value) ? "0" : String.valueOf(value));
+      inputs.add((random.nextInt(1000000000) - 500000000) + "." + random.nextInt(1000000) + "e" + (random.nextInt(60) - 30));
+    }
+    for (String input : inputs) {
+      String chars = "[" + input + "]";
+      byte[] bytes = chars.getBytes(StandardCharsets.UTF_8);
+      ByteBuffer buffer = ByteBuffer.wrap(bytes);
+      int len = input.length();
+      Integer expectedInt = helper.tryParse(input, -1, Integer.class);
+      assertEquals(input, expectedInt.intValue(), helper.parseInt(chars, 1, len, -1));
+      assertEquals(input, expectedInt.intValue(), helper.parseInt(bytes, 1, len, -1));
+      assertEquals(input, expectedInt.intValue(), helper.parseInt(buffer, 1, len, -1));
+      Long expectedLong = helper.tryParse(input, -1L, Long.class);
+      assertEquals(input, expectedLong.longValue(), helper.parseLong(chars, 1, len, -1));
+      assertEquals(input, expectedLong.longValue(), helper.parseLong(bytes, 1, len, -1));
+      assertEquals(input, expectedLong.longValue(), helper.parseLong(buffer, 1, len, -1));
+      Double expectedDouble = helper.tryParse(input, Double.NaN, Double.class);
+      assertEquals(input, expectedDouble, Double.valueOf(helper.parseDouble(chars, 1, len, Double.NaN)));
+      assertEquals(input, expectedDouble, Double.valueOf(helper.parseDouble(bytes, 1, len, Double.NaN)));
+      assertEquals(input, expectedDouble, Double.valueOf(helper.parseDouble(buffer, 1, len, Double.NaN)));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> helper.parseInt("123", 2, 2, 0));
+  }
+
+  @Test
+  public void testNumberHelperParseBulk() {
+    NumberHelper helper = NumberHelper.getInstance();
+    Object[] src = new Object[130];
+    for (int i = 0; i < src.length; i++) {
+      src[i] = i % 5 == 0 ? (Object) ("" + i + ".5") : i % 5 == 1 ? (Object) Integer.valueOf(i) : i % 5 == 2 ? (Object) Double.valueOf(i * 0.25)
+          : i % 5 == 3 ? (Object) new BigDecimal(i) : null;
+    }
+    src[7] = "x";
+    src[8] = Double.NaN;
+    src[9] = String.valueOf(Long.MIN_VALUE);
+    double[] doubles = new double[src.length];
+    long[] failures = new long[3];
+    int failed = helper.parseDoubles(src, doubles, -1, failures);
+    long[] longs = new long[src.length];
+    assertEquals(failed, helper.parseLongs(Arrays.asList(src), longs, -1));
+    int expectedFailed = 0;
+    for (int i = 0; i < src.length; i++) {
+      Double expectedDouble = helper.tryParse(src[i], null, Double.class);
+      Long expectedLong = helper.tryParse(src[i], null, Long.class);
+      assertEquals(expectedDouble == null ? -1 : expectedDouble, doubles[i], 0);
+      assertEquals(expectedLong == null ? -1 : expectedLong, longs[i]);
+      assertEquals(expectedDouble == null, (failures[i >> 6] & (1L << i)) != 0);
+      expectedFailed += expectedDouble == null ? 1 : 0;
+    }
+    assertEquals(expectedFailed, failed);
+    assertEquals(Long.MIN_VALUE, longs[9]);
+    assertThrows(IllegalArgumentException.class, () -> helper.parseDoubles(src, new double[1], 0));
+  }
+
+  @Test
+  public void testNumberHelperRoundDouble() {
+    NumberHelper helper = NumberHelper.getInstance();
+    double[] ties = { 2.675, 1.005, 0.5, -2.5, 1.45, -0.001, 0.125, 1e22, 4.35, -0.0 };
+    for (double d : ties) {
+      for (int p = -3; p <= 3; p++) {
+        assertEquals(d + ", " + p, legacyRound(d, p), helper.roundDouble(d, p), 0);
+      }
+    }
+    assertEquals(3.14d, helper.roundDouble(Math.PI, 2), 0);
+    assertEquals(3200d, helper.roundDouble(3210, -2), 0);
+    assertEquals(0.01d, helper.roundDouble(0.005, 2), 0);
+    Random random = new Random(18);
+    double[] in = new double[10_000];
+    double[] out = new double[in.length];
+    for (int i = 0; i < in.length; i++) {
+      in[i] = (random.nextInt(2_000_000) - 1_000_000) / 1000.0 * Math.pow(10, random.nextInt(10) - 5);
+    }
+    for (int p = -5; p <= 10; p++) {
+      helper.round(in, out, p);
+      for (int i = 0; i < in.length; i++) {
+        assertEquals(legacyRound(in[i], p), out[i], 0);
+      }
+    }
+    assertThrows(IllegalArgumentException.class, () -> helper.round(in, new double[1], 2));
+  }
+
+  /**
+   * 기존(BigDecimal) 반올림 결과
+   */
+  private static double legacyRound(double d, int p) {
+    return BigDecimal.valueOf(d).setScale(p, RoundingMode.HALF_UP).doubleValue();
+  }
+
+  @Test
+  public void testNumberHelperConcurrentInstance() throws Exception {
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<NumberHelper>> results = new ArrayList<>();
+    try {
+      for (int i = 0; i < threads; i++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          NumberHelper helper = NumberHelper.getInstance();
+          for (int n = 0; n < 10_000; n++) {
+            if (NumberHelper.getInstance() != helper || helper.tryParse(String.valueOf(n), -1, Integer.class) != n
+                || helper.roundDouble(n + 0.5, 0) != n + 1) {
+              return null;
+            }
+          }
+          return helper;
+        }));
+      }
+      start.countDown();
+      for (Future<NumberHelper> result : results) {
+        assertSame(NumberHelper.getInstance(), result.get(30, TimeUnit.SECONDS));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testNumberHelperMetrics() {
+    NumberHelper helper = NumberHelper.getInstance();
+    InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+    Metrics.register(recorder);
+    try {
+      assertEquals(Integer.valueOf(12), helper.tryParseInteger("12"));
+      assertEquals(Integer.valueOf(-1), helper.tryParseInteger("N/A", -1));
+      assertEquals(null, helper.tryParseInteger(null));
+      assertEquals(Double.valueOf(1.5), helper.parse("1.5", null, Double.class));
+      assertThrows(NumberFormatException.class, () -> helper.parse("N/A", null, Double.class));
+      // bulk 변환은 원소별로 기록하지 않음
+      helper.parseDoubles(new Object[] { "1", 2f, "x" }, new double[3], 0);
+      assertEquals(2, recorder.snapshot("number.tryParse").getCount());
+      assertEquals(1, recorder.snapshot("number.tryParse").getFailureCount());
+      assertEquals(1, recorder.snapshot("number.parse").getCount());
+      assertEquals(1, recorder.snapshot("number.parse").getFailureCount());
+    } finally {
+      Metrics.reset();
+    }
+  }
+
+  /**
+   * 기존(BigDecimal 문자열 파싱) 변환 결과
+   */
+  private static Number legacyParse(Object object, Class<? extends Number> _class) {
+    BigDecimal number = new BigDecimal(object.toString());
+    if (_class == Integer.class) {
+      return number.intValue();
+    } else if (_class == Long.class) {
+      return number.longValue();
+    } else if (_class == Double.class || _class == Number.class) {
+      return number.doubleValue();
+    } else if (_class == Float.class) {
+      return number.floatValue();
+    } else if (_class == Byte.class) {
+      return number.byteValue();
+    } else if (_class == Short.class) {
+      return number.shortValue();
+    } else if (_class == BigDecimal.class) {
+      return BigDecimal.valueOf(number.doubleValue());
+    } else {
+      return BigInteger.valueOf(number.longValue());
+    }
+  }
 }